@@ -66,7 +66,7 @@ function ManageWordsPage() {
             body: JSON.stringify(newEntry),
         })
             .then((res) => {
-                if (!res.ok) return res.text().then((text) => { throw new Error(text); });
+                if (!res.ok) return res.json().then((body) => { throw new Error(body.error); });
                 setCategory(""); setWord(""); setHint(""); setMessage("");
                 loadWords();
             })
@@ -137,7 +137,7 @@ function ManageWordsPage() {
                 });
             })
             .then((res) => {
-                if (!res.ok) return res.text().then((text) => { throw new Error(text); });
+                if (!res.ok) return res.json().then((body) => { throw new Error(body.error); });
                 cancelEdit(); loadWords();
             })
             .catch((err) => setMessage(err.message));
@@ -1,16 +1,37 @@
 package com.example.demo;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    // Compact binary encodings offered next to JSON (served once the Jackson dataformat is on the classpath)
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
                 .allowedOrigins("http://localhost:3000")
-                .allowedMethods("*");
+                .allowedMethods("*")
+                // Lets the frontend read the id to quote it in bug reports
+                .exposedHeaders(RequestIdFilter.HEADER);
+    }
+
+    /**
+     * Lets clients pick the response encoding with the Accept header or, for clients that
+     * cannot set headers easily, with a {@code ?format=json|cbor|smile} query parameter.
+     */
+    @Override
+    public void configureContentNegotiation(ContentNegotiationConfigurer configurer) {
+        configurer.favorParameter(true)
+                .parameterName("format")
+                .mediaType("json", MediaType.APPLICATION_JSON)
+                .mediaType("cbor", MediaType.APPLICATION_CBOR)
+                .mediaType("smile", APPLICATION_SMILE)
+                .defaultContentType(MediaType.APPLICATION_JSON);
     }
 }
@@ -1,18 +1,22 @@
 package com.example.demo.controller;
 
+import com.example.demo.RequestIdFilter;
+import com.example.demo.model.NicknameAvailability;
 import com.example.demo.model.ScoreEntry;
 import com.example.demo.service.ScoreService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
  * REST controller for handling score-related operations.
  * This controller provides endpoints to add scores and retrieve the leaderboard.
  */
-@CrossOrigin(origins = "http://localhost:3000")// Allow requests from frontend (React)
+@CrossOrigin(origins = "http://localhost:3000", exposedHeaders = RequestIdFilter.HEADER)// Allow requests from frontend (React)
 @RestController
 @RequestMapping("/api/scores")
 public class ScoreController {
@@ -41,4 +45,40 @@ public class ScoreController {
     public List<ScoreEntry> getLeaderboard() {
         return scoreService.getLeaderboard();
     }
+
+    /**
+     * Checks whether a nickname is free for a new player.
+     * Flags exact matches as well as near-duplicates of registered nicknames.
+     *
+     * @param nickname the nickname to check
+     * @return NicknameAvailability with the exact-match flag and similar nicknames
+     */
+    @GetMapping("/nickname")
+    public NicknameAvailability checkNickname(@RequestParam String nickname) {
+        return scoreService.checkNickname(nickname);
+    }
+
+    /**
+     * Adds a score entry to today's daily-challenge leaderboard.
+     *
+     * @param entry the ScoreEntry object sent in the request body
+     * @return ResponseEntity with status 200 OK
+     */
+    @PostMapping("/daily")
+    public ResponseEntity<Void> addDailyScore(@RequestBody ScoreEntry entry) {
+        scoreService.addDailyScore(entry);
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * Retrieves the daily-challenge leaderboard of a given date.
+     *
+     * @param date the challenge date in ISO format (yyyy-MM-dd); defaults to today
+     * @return List of ScoreEntry objects for that date
+     */
+    @GetMapping("/daily")
+    public List<ScoreEntry> getDailyLeaderboard(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return scoreService.getDailyLeaderboard(date);
+    }
 }
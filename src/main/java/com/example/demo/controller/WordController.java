@@ -1,5 +1,7 @@
 package com.example.demo.controller;
 
+import com.example.demo.RequestIdFilter;
+import com.example.demo.model.SegmentStats;
 import com.example.demo.model.WordEntry;
 import com.example.demo.service.WordService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,7 +14,7 @@ import java.util.List;
  * REST controller for managing word entries.
  * Provides endpoints to retrieve, add, and delete words, as well as fetch categories or random words.
  */
-@CrossOrigin(origins = "http://localhost:3000")
+@CrossOrigin(origins = "http://localhost:3000", exposedHeaders = RequestIdFilter.HEADER)
 @RestController
 @RequestMapping("/api/words")
 public class WordController {
@@ -51,6 +53,28 @@ public class WordController {
         return wordService.getRandomWordByCategory(category);
     }
 
+    /**
+     * Retrieves today's daily-challenge word for a given category.
+     * Every player receives the same word for the same category on the same day.
+     *
+     * @param category the category of the challenge
+     * @return the day's WordEntry
+     */
+    @GetMapping("/daily")
+    public WordEntry getDailyWord(@RequestParam String category) {
+        return wordService.getDailyWord(category);
+    }
+
+    /**
+     * Retrieves the dictionary segment cache metrics.
+     *
+     * @return SegmentStats with hits, misses, load times and memory use
+     */
+    @GetMapping("/segments")
+    public SegmentStats getSegmentStats() {
+        return wordService.getSegmentStats();
+    }
+
     /**
      * Adds a new word entry to the system.
      *
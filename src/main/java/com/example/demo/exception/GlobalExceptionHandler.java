@@ -1,16 +1,23 @@
 package com.example.demo.exception;
 
+import com.example.demo.model.ErrorResponse;
+import com.example.demo.util.ErrorLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 /**
  * Global exception handler for REST API errors.
- * Catches exceptions thrown from any controller and returns standardized HTTP responses.
+ * Catches exceptions thrown from any controller and returns standardized HTTP responses
+ * with an {@link ErrorResponse} body.
  */
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger LOG = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
     /**
      * Handles IllegalArgumentExceptions thrown in the application.
      * Typically used when input validation fails.
@@ -19,21 +26,22 @@ public class GlobalExceptionHandler {
      * @return ResponseEntity with HTTP 400 Bad Request and the exception message
      */
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<String> handleIllegalArg(IllegalArgumentException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    public ResponseEntity<ErrorResponse> handleIllegalArg(IllegalArgumentException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse(ex.getMessage()));
     }
 
     /**
      * Handles any other unhandled exceptions in the application.
-     * Logs the error and returns a generic server error response to the client.
+     * Logs the error (full stack trace rate-limited per exception class) and returns
+     * a generic server error response to the client.
      *
      * @param ex the thrown Exception
      * @return ResponseEntity with HTTP 500 Internal Server Error and generic message
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<String> handleOther(Exception ex) {
-        ex.printStackTrace(); // log full stack trace in backend
+    public ResponseEntity<ErrorResponse> handleOther(Exception ex) {
+        ErrorLog.error(LOG, "Unhandled exception", ex);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body("Something went wrong. Please try again.");
+                .body(new ErrorResponse("Something went wrong. Please try again."));
     }
 }
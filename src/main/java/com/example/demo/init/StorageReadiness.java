@@ -0,0 +1,50 @@
+package com.example.demo.init;
+
+import com.example.demo.service.ScoreService;
+import com.example.demo.service.WordService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Holds the application's readiness state until the word and score files have been loaded.
+ * Both storages load in parallel in the background, so the web server starts immediately.
+ *
+ * <p>Spring Boot publishes ACCEPTING_TRAFFIC right after the ApplicationReadyEvent listeners have returned,
+ * on the same thread. Waiting for the storages inside such a listener therefore keeps the readiness state
+ * at REFUSING_TRAFFIC until the data is in memory, without publishing a competing state change of our own.
+ * Uses only the core availability API, so no extra dependency is needed.</p>
+ */
+@Component
+public class StorageReadiness {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StorageReadiness.class);
+
+    // Completes when both storages have finished loading from disk
+    private final CompletableFuture<Void> loaded;
+
+    /**
+     * Creates the readiness tracker for the given services.
+     *
+     * @param wordService  service whose word storage must be loaded
+     * @param scoreService service whose score storages must be loaded
+     */
+    public StorageReadiness(WordService wordService, ScoreService scoreService) {
+        this.loaded = CompletableFuture.allOf(wordService.whenLoaded(), scoreService.whenLoaded());
+    }
+
+    /**
+     * Blocks Spring Boot's ready notification until the storages have loaded.
+     * If loading failed, the exception aborts the startup instead of letting the node report ready with no data.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void awaitStorage() {
+        if (!loaded.isDone()) LOG.info("Waiting for storage to load before accepting traffic");
+        loaded.join();
+        LOG.info("Storage loaded, accepting traffic");
+    }
+}
@@ -1,20 +1,21 @@
 package com.example.demo.init;
 
 import com.example.demo.model.WordEntry;
+import com.example.demo.storage.WordStorage;
 
-import java.io.FileOutputStream;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.example.demo.util.Constants.WORDS_DIR;
+
 /**
  * Utility class to initialize and serialize a list of default word entries.
- * It creates a `words.ser` file containing predefined WordEntry objects.
+ * It writes the predefined WordEntry objects as per-category segments under the `words` directory.
  */
 public class WordInit {
 
-    // File where the serialized word list will be saved
-    private static final String FILE_NAME = "words.ser";
+    // Directory where the serialized word segments will be saved
+    private static final String DIR_NAME = WORDS_DIR;
 
     /**
      * Main method that runs the initializer.
@@ -37,12 +38,13 @@ public class WordInit {
         defaultWords.add(new WordEntry("countries", "japan", "Land of the rising sun"));
         defaultWords.add(new WordEntry("countries", "egypt", "Home of the pyramids"));
 
-        // Serialize the list to a .ser file
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(FILE_NAME))) {
-            oos.writeObject(defaultWords);
-            System.out.println("✅ words.ser created with " + defaultWords.size() + " words.");
+        // Serialize the list as one segment per category plus the category manifest
+        try {
+            List<String> categories = WordStorage.writeDictionary(defaultWords);
+            System.out.println("✅ " + DIR_NAME + "/ created with " + defaultWords.size() + " words in "
+                    + categories.size() + " categories.");
         } catch (Exception e) {
-            System.err.println("❌ Failed to write words.ser: " + e.getMessage());
+            System.err.println("❌ Failed to write " + DIR_NAME + "/: " + e.getMessage());
         }
     }
 }
@@ -0,0 +1,24 @@
+package com.example.demo.model;
+
+/**
+ * Body of an error response.
+ * Serialized like any other response, so clients that negotiated CBOR or Smile get their errors
+ * in the same format, and JSON clients read the message from the {@code error} field.
+ */
+public class ErrorResponse {
+
+    private final String error;
+
+    /**
+     * Creates an error body.
+     *
+     * @param error the message shown to the user
+     */
+    public ErrorResponse(String error) {
+        this.error = error;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
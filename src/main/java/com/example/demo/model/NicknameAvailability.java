@@ -0,0 +1,74 @@
+package com.example.demo.model;
+
+import java.util.List;
+
+/**
+ * Result of a nickname-availability check.
+ * A nickname is available when no player uses it yet and no registered nickname looks like it.
+ */
+public class NicknameAvailability {
+
+    private String nickname;
+    private boolean taken;
+    private List<String> similar;
+
+    /**
+     * Default constructor for framework use.
+     */
+    public NicknameAvailability() {}
+
+    /**
+     * Creates a complete availability result.
+     *
+     * @param nickname the nickname that was checked
+     * @param taken    whether a player already uses this exact nickname (ignoring case and spacing)
+     * @param similar  registered nicknames that look like it
+     */
+    public NicknameAvailability(String nickname, boolean taken, List<String> similar) {
+        this.nickname = nickname;
+        this.taken = taken;
+        this.similar = similar;
+    }
+
+    /**
+     * Gets the nickname that was checked.
+     * @return nickname
+     */
+    public String getNickname() { return nickname; }
+
+    /**
+     * Sets the nickname that was checked.
+     * @param nickname the nickname
+     */
+    public void setNickname(String nickname) { this.nickname = nickname; }
+
+    /**
+     * Returns true if a player already uses this nickname.
+     * @return true if taken
+     */
+    public boolean isTaken() { return taken; }
+
+    /**
+     * Sets whether the nickname is taken.
+     * @param taken true if taken
+     */
+    public void setTaken(boolean taken) { this.taken = taken; }
+
+    /**
+     * Gets the registered nicknames that look like this one.
+     * @return list of similar nicknames
+     */
+    public List<String> getSimilar() { return similar; }
+
+    /**
+     * Sets the registered nicknames that look like this one.
+     * @param similar list of similar nicknames
+     */
+    public void setSimilar(List<String> similar) { this.similar = similar; }
+
+    /**
+     * Returns true if the nickname is neither taken nor a near-duplicate of another one.
+     * @return true if available
+     */
+    public boolean isAvailable() { return !taken && (similar == null || similar.isEmpty()); }
+}
@@ -0,0 +1,90 @@
+package com.example.demo.model;
+
+/**
+ * Snapshot of the dictionary segment cache metrics.
+ * Reports how often category segments were served from memory or loaded from disk,
+ * how long loads took, and how much of the memory budget is in use.
+ */
+public class SegmentStats {
+
+    private final long hits;
+    private final long misses;
+    private final long loads;
+    private final long evictions;
+    private final double averageLoadMillis;
+    private final int cachedSegments;
+    private final long cachedBytes;
+    private final long maxBytes;
+
+    /**
+     * Creates a complete statistics snapshot.
+     *
+     * @param hits              requests served from a cached segment
+     * @param misses            requests that found their segment not cached
+     * @param loads             segments read from disk
+     * @param evictions         segments dropped to stay within the budget
+     * @param averageLoadMillis mean time to read one segment from disk
+     * @param cachedSegments    number of segments currently in memory
+     * @param cachedBytes       estimated heap size of the cached segments
+     * @param maxBytes          configured memory budget
+     */
+    public SegmentStats(long hits, long misses, long loads, long evictions, double averageLoadMillis,
+                        int cachedSegments, long cachedBytes, long maxBytes) {
+        this.hits = hits;
+        this.misses = misses;
+        this.loads = loads;
+        this.evictions = evictions;
+        this.averageLoadMillis = averageLoadMillis;
+        this.cachedSegments = cachedSegments;
+        this.cachedBytes = cachedBytes;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Gets the number of requests served from a cached segment.
+     * @return hit count
+     */
+    public long getHits() { return hits; }
+
+    /**
+     * Gets the number of requests whose segment was not cached.
+     * @return miss count
+     */
+    public long getMisses() { return misses; }
+
+    /**
+     * Gets the number of segments read from disk.
+     * @return load count
+     */
+    public long getLoads() { return loads; }
+
+    /**
+     * Gets the number of segments evicted to stay within the budget.
+     * @return eviction count
+     */
+    public long getEvictions() { return evictions; }
+
+    /**
+     * Gets the mean time to read one segment from disk.
+     * @return average load time in milliseconds
+     */
+    public double getAverageLoadMillis() { return averageLoadMillis; }
+
+    /**
+     * Gets the number of segments currently in memory.
+     * @return cached segment count
+     */
+    public int getCachedSegments() { return cachedSegments; }
+
+    /**
+     * Gets the estimated heap size of the cached segments.
+     * @return size in bytes
+     */
+    public long getCachedBytes() { return cachedBytes; }
+
+    /**
+     * Gets the configured memory budget.
+     * @return budget in bytes
+     */
+    public long getMaxBytes() { return maxBytes; }
+}
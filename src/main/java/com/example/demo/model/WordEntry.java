@@ -1,11 +1,12 @@
 package com.example.demo.model;
 
 import java.io.Serializable;
+import java.time.LocalDate;
 import java.util.Objects;
 
 /**
  * Represents a word entry in the word guessing game.
- * Each entry contains a category, a word, and a hint.
+ * Each entry contains a category, a word, a hint, and the date the word was added.
  * This class is used for storing, transferring, and comparing word data.
  */
 public class WordEntry implements Serializable {
@@ -14,6 +15,8 @@ public class WordEntry implements Serializable {
     private String category;
     private String word;
     private String hint;
+    // Daily-challenge date (UTC) the word was added on; null for words of the initial dictionary
+    private LocalDate addedOn;
 
     /**
      * Default constructor.
@@ -90,6 +93,25 @@ public class WordEntry implements Serializable {
         this.hint = hint;
     }
 
+    /**
+     * Gets the date the word was added.
+     * A word only takes part in the daily challenge from the day after it was added.
+     *
+     * @return the date added, or null if the word is part of the initial dictionary
+     */
+    public LocalDate getAddedOn() {
+        return addedOn;
+    }
+
+    /**
+     * Sets the date the word was added.
+     *
+     * @param addedOn the date added, or null for the initial dictionary
+     */
+    public void setAddedOn(LocalDate addedOn) {
+        this.addedOn = addedOn;
+    }
+
     /**
      * Compares this WordEntry to another object for equality.
      * Two WordEntry objects are equal if they have the same category and word (case-insensitive).
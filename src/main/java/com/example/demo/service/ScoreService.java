@@ -1,10 +1,16 @@
 package com.example.demo.service;
 
+import com.example.demo.model.NicknameAvailability;
 import com.example.demo.model.ScoreEntry;
+import com.example.demo.storage.DailyScoreStorage;
 import com.example.demo.storage.ScoreStorage;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.example.demo.util.Constants.DAILY_CHALLENGE_ZONE;
 
 /**
  * Service class for handling score-related logic.
@@ -15,16 +21,43 @@ public class ScoreService {
 
     // ScoreStorage instance to handle actual data persistence and retrieval
     private final ScoreStorage scoreStorage = new ScoreStorage();
+    // Separate per-date boards for the daily challenge
+    private final DailyScoreStorage dailyScoreStorage = new DailyScoreStorage();
+
+    /**
+     * Returns a future that completes once the underlying score storages have finished loading.
+     *
+     * @return future completed when scores are available in memory
+     */
+    public CompletableFuture<Void> whenLoaded() {
+        return CompletableFuture.allOf(scoreStorage.whenLoaded(), dailyScoreStorage.whenLoaded());
+    }
 
     /**
      * Adds a new score entry to the system.
      *
      * @param entry the score entry to be added
+     * @throws IllegalArgumentException if the nickname is missing
      */
     public void addScore(ScoreEntry entry) {
         scoreStorage.addScore(entry);
     }
 
+    /**
+     * Checks whether a nickname can be used by a new player.
+     * Reports an exact match (ignoring case and spacing) and any near-duplicates
+     * such as leet spellings or a one-letter difference (at most 20 of them).
+     *
+     * @param nickname the nickname to check
+     * @return the availability result
+     * @throws IllegalArgumentException if the nickname is empty
+     */
+    public NicknameAvailability checkNickname(String nickname) {
+        return new NicknameAvailability(nickname,
+                scoreStorage.hasNickname(nickname),
+                scoreStorage.findSimilarNicknames(nickname, 20));
+    }
+
     /**
      * Retrieves the top N scores to display in the leaderboard.
      *
@@ -33,4 +66,24 @@ public class ScoreService {
     public List<ScoreEntry> getLeaderboard() {
         return scoreStorage.getTopScores(10);
     }
+
+    /**
+     * Adds a score to today's daily-challenge board.
+     * The date is decided by the server so players cannot post to past or future boards.
+     *
+     * @param entry the score entry to be added
+     */
+    public void addDailyScore(ScoreEntry entry) {
+        dailyScoreStorage.addScore(LocalDate.now(DAILY_CHALLENGE_ZONE), entry);
+    }
+
+    /**
+     * Retrieves the top daily-challenge scores of a given date.
+     *
+     * @param date the challenge date, or null for today
+     * @return a list of top ScoreEntry objects for that date (top 10)
+     */
+    public List<ScoreEntry> getDailyLeaderboard(LocalDate date) {
+        return dailyScoreStorage.getTopScores(date != null ? date : LocalDate.now(DAILY_CHALLENGE_ZONE), 10);
+    }
 }
@@ -1,10 +1,16 @@
 package com.example.demo.service;
 
+import com.example.demo.model.SegmentStats;
 import com.example.demo.model.WordEntry;
 import com.example.demo.storage.WordStorage;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.example.demo.util.Constants.DAILY_CHALLENGE_ZONE;
 
 /**
  * Service class that handles all word-related business logic.
@@ -14,7 +20,25 @@ import java.util.List;
 public class WordService {
 
     // Instance of storage handling the persistence layer
-    private final WordStorage wordStorage = new WordStorage();
+    private final WordStorage wordStorage;
+
+    /**
+     * Creates the service with a word storage limited to the configured segment memory budget.
+     *
+     * @param maxCacheBytes estimated heap budget for cached category segments
+     */
+    public WordService(@Value("${words.segment-cache.max-bytes:67108864}") long maxCacheBytes) {
+        this.wordStorage = new WordStorage(maxCacheBytes);
+    }
+
+    /**
+     * Returns a future that completes once the underlying word storage has finished loading.
+     *
+     * @return future completed when words are available in memory
+     */
+    public CompletableFuture<Void> whenLoaded() {
+        return wordStorage.whenLoaded();
+    }
 
     /**
      * Retrieves all words stored in the system.
@@ -44,6 +68,26 @@ public class WordService {
         return wordStorage.getRandomWordByCategory(category);
     }
 
+    /**
+     * Retrieves today's daily-challenge word for the specified category.
+     * All players get the same word per category for the whole day.
+     *
+     * @param category the name of the category
+     * @return today's WordEntry for that category
+     */
+    public WordEntry getDailyWord(String category) {
+        return wordStorage.getDailyWord(category, LocalDate.now(DAILY_CHALLENGE_ZONE));
+    }
+
+    /**
+     * Retrieves the dictionary segment cache metrics.
+     *
+     * @return hit, miss, load-time and memory statistics of the category segments
+     */
+    public SegmentStats getSegmentStats() {
+        return wordStorage.getSegmentStats();
+    }
+
     /**
      * Adds a new word to the system after validating input fields.
      *
@@ -0,0 +1,115 @@
+package com.example.demo.storage;
+
+import com.example.demo.model.WordEntry;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Deterministic schedule for the daily challenge.
+ * Each day induces a seeded permutation of every category's words (highest-random-weight ordering),
+ * and the day's word is the head of that permutation. Each word's rank depends only on the seed,
+ * the date and the word itself.
+ *
+ * <p>Only words added before the day take part in that day's permutation (see {@link WordEntry#getAddedOn()}),
+ * so a word added today cannot change today's pick: every node and every restart agrees on the word for
+ * the whole day, whenever the word was added. Deleting the day's word promotes the next word in the
+ * permutation. Picks are cached for the current date so every request is a constant-time lookup.</p>
+ */
+public class DailySchedule {
+
+    // Seed shared by all nodes so they agree on the schedule
+    private final long seed;
+    // Date the cached picks belong to
+    private LocalDate cachedDate;
+    // Cached daily word per lowercase category for cachedDate
+    private final Map<String, WordEntry> picks = new HashMap<>();
+    // Incremented on every deletion, so a pick computed from words read before the deletion is not cached
+    private long deletions;
+
+    /**
+     * Creates a schedule with the given seed.
+     *
+     * @param seed seed of the per-day permutations
+     */
+    public DailySchedule(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the daily word of a category, computing it from the candidates on the first call of the day.
+     * The candidates are read and ranked without holding the schedule's lock, so a slow segment load
+     * for one category does not hold up the daily word of the others.
+     *
+     * @param category   the category (case-insensitive)
+     * @param date       the challenge date
+     * @param candidates supplies the current words of that category; only called on a cache miss
+     * @return the day's WordEntry, or null if the category has no words added before that date
+     */
+    public WordEntry get(String category, LocalDate date, Supplier<Collection<WordEntry>> candidates) {
+        String key = category.toLowerCase();
+        long deletionsBefore;
+        synchronized (this) {
+            if (date.equals(cachedDate)) {
+                WordEntry cached = picks.get(key);
+                if (cached != null) return cached;
+            }
+            deletionsBefore = deletions;
+        }
+
+        WordEntry pick = rank(key, date, candidates.get());
+
+        synchronized (this) {
+            if (cachedDate == null || date.isAfter(cachedDate)) {
+                picks.clear();
+                cachedDate = date;
+            }
+            // Skip caching for a past date or if a word was deleted while the candidates were read
+            if (pick != null && date.equals(cachedDate) && deletions == deletionsBefore) {
+                picks.putIfAbsent(key, pick);
+            }
+        }
+        return pick;
+    }
+
+    /**
+     * Drops a cached pick that refers to a deleted word, so the next word in the day's permutation is used.
+     *
+     * @param entry the deleted WordEntry
+     */
+    public synchronized void onDeleted(WordEntry entry) {
+        deletions++;
+        picks.values().removeIf(entry::equals);
+    }
+
+    /**
+     * Finds the highest-ranked word for a day among the candidates added before that day.
+     */
+    private WordEntry rank(String category, LocalDate date, Collection<WordEntry> candidates) {
+        long dayKey = mix(seed ^ date.toEpochDay() * 0x9E3779B97F4A7C15L ^ category.hashCode());
+        WordEntry best = null;
+        long bestWeight = 0;
+        for (WordEntry w : candidates) {
+            if (w.getAddedOn() != null && !w.getAddedOn().isBefore(date)) continue;
+            long weight = mix(dayKey ^ w.getWord().toLowerCase().hashCode());
+            if (best == null || weight > bestWeight
+                    || (weight == bestWeight && w.getWord().compareToIgnoreCase(best.getWord()) < 0)) {
+                best = w;
+                bestWeight = weight;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 64-bit finalizer (SplitMix64) used to spread the seed, date and word hash.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
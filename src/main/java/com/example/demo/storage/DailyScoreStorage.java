@@ -0,0 +1,222 @@
+package com.example.demo.storage;
+
+import com.example.demo.model.ScoreEntry;
+import com.example.demo.util.ErrorLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.example.demo.util.Constants.DAILY_CHALLENGE_ZONE;
+import static com.example.demo.util.Constants.DAILY_SCORES_DIR;
+import static com.example.demo.util.Constants.DAILY_SCORES_FILE;
+import static com.example.demo.util.Constants.SNAPSHOT_GENERATIONS;
+
+/**
+ * Handles persistence and retrieval of daily-challenge scores using file-based serialization.
+ * Keeps a separate leaderboard per challenge date in its own file ({@code daily_scores/<date>.ser},
+ * e.g. {@code daily_scores/2025-06-01.ser}), so a new score rewrites only that day's board and
+ * past boards are never touched again. Boards are read from disk on first use.
+ * The dates that have a board are found with a single directory scan at startup, so looking up a date
+ * without a board (today's before the first score, or any date a client asks for) never touches the disk.
+ */
+public class DailyScoreStorage {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DailyScoreStorage.class);
+
+    // Directory holding one file per challenge date
+    private static final Path DIRECTORY = Paths.get(DAILY_SCORES_DIR);
+    // Single file holding all boards, from before the per-date files; imported on first start
+    private static final String LEGACY_FILE_NAME = DAILY_SCORES_FILE;
+
+    // Background import of the legacy file, if any
+    private final CompletableFuture<Void> loading;
+    // Boards read so far, keyed by ISO date, each keyed by canonical nickname; guarded by this storage's lock
+    private final Map<String, Map<String, ScoreEntry>> boards = new HashMap<>();
+    // Snapshot managers of the boards read or written so far, keyed by ISO date
+    private final Map<String, SnapshotManager> snapshots = new ConcurrentHashMap<>();
+    // ISO dates that have board files on disk, readable or not
+    private final Set<String> storedDates = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor that starts importing old daily scores and listing the stored dates in the background.
+     */
+    public DailyScoreStorage() {
+        this.loading = StorageLoader.load(() -> {
+            try {
+                importLegacyFile();
+                scanStoredDates();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Returns a future that completes once the daily scores are ready to be read.
+     *
+     * @return future completed when the storage is ready to serve requests
+     */
+    public CompletableFuture<Void> whenLoaded() {
+        return loading;
+    }
+
+    /**
+     * Returns the board of a date, reading it from disk on first use.
+     * Must be called holding this storage's lock.
+     *
+     * @param date the challenge date
+     * @return the mutable scores of that day keyed by canonical nickname
+     */
+    private Map<String, ScoreEntry> board(LocalDate date) {
+        loading.join();
+        return boards.computeIfAbsent(date.toString(), this::loadBoard);
+    }
+
+    /**
+     * Loads the board of a date from its newest valid snapshot and keys it by canonical nickname.
+     * A board that was never written is empty; a board whose files exist but none is readable is an error,
+     * so the next score of that day cannot overwrite it.
+     *
+     * @param isoDate the challenge date as ISO string
+     * @return ScoreEntry objects keyed by canonical nickname
+     * @throws IllegalStateException if the board's files exist but none could be read
+     */
+    private Map<String, ScoreEntry> loadBoard(String isoDate) {
+        Map<String, ScoreEntry> board = new LinkedHashMap<>();
+        if (!storedDates.contains(isoDate)) return board;
+        SnapshotManager snapshots = snapshotsOf(isoDate);
+        Object obj = snapshots.load();
+        if (obj instanceof List<?>) {
+            for (ScoreEntry entry : (List<ScoreEntry>) obj) {
+                if (entry == null || entry.getNickname() == null) continue;
+                // Boards written before the canonical check may hold near-identical nicknames; keep the best
+                board.merge(NicknameIndex.canonical(entry.getNickname()), entry,
+                        (previous, next) -> next.getScore() > previous.getScore() ? next : previous);
+            }
+        } else if (snapshots.exists()) {
+            throw new IllegalStateException("Daily scores of " + isoDate + " exist but could not be read");
+        }
+        return board;
+    }
+
+    /**
+     * Saves the board of one date as a new snapshot generation.
+     * The snapshot holds a plain list of ScoreEntry objects.
+     */
+    private void saveBoard(String isoDate, Map<String, ScoreEntry> board) {
+        try {
+            snapshotsOf(isoDate).save(new ArrayList<>(board.values()));
+            storedDates.add(isoDate);
+        } catch (IOException e) {
+            ErrorLog.error(LOG, "Error saving daily scores of " + isoDate, e);
+        }
+    }
+
+    /**
+     * Splits the single-file boards of older versions into per-date files,
+     * then renames the old file so it is not imported again.
+     * If any board cannot be written, the old file is kept and the import is retried on the next start;
+     * if the old file exists but cannot be read, the load fails rather than dropping its boards.
+     *
+     * @throws IOException if a board could not be written or the old file not renamed
+     */
+    private void importLegacyFile() throws IOException {
+        SnapshotManager legacy = new SnapshotManager(Paths.get(LEGACY_FILE_NAME), SNAPSHOT_GENERATIONS);
+        Object obj = legacy.load();
+        if (!(obj instanceof Map<?, ?>)) {
+            if (legacy.exists()) throw new IllegalStateException(LEGACY_FILE_NAME + " exists but could not be read");
+            return;
+        }
+        Map<String, List<ScoreEntry>> old = (Map<String, List<ScoreEntry>>) obj;
+        LOG.info("Splitting {} daily boards from {} into {}/", old.size(), LEGACY_FILE_NAME, DAILY_SCORES_DIR);
+        for (Map.Entry<String, List<ScoreEntry>> board : old.entrySet()) {
+            snapshotsOf(board.getKey()).save(new ArrayList<>(board.getValue()));
+        }
+        legacy.markMigrated();
+    }
+
+    /**
+     * Records the dates that have board files, including quarantined ones, with one listing of the directory.
+     *
+     * @throws IOException if the directory cannot be listed
+     */
+    private void scanStoredDates() throws IOException {
+        Pattern boardFile = Pattern.compile("(\\d{4}-\\d{2}-\\d{2})\\.ser\\.\\d+(\\.corrupt)?");
+        try (Stream<Path> files = Files.list(directory())) {
+            files.forEach(p -> {
+                Matcher m = boardFile.matcher(p.getFileName().toString());
+                if (m.matches()) storedDates.add(m.group(1));
+            });
+        }
+    }
+
+    /**
+     * Adds a score to the board of the given date.
+     * As on the main leaderboard, each nickname keeps only its highest score for that day.
+     * Only that day's file is rewritten.
+     *
+     * @param date     the challenge date
+     * @param newEntry the new ScoreEntry to add
+     */
+    public synchronized void addScore(LocalDate date, ScoreEntry newEntry) {
+        Map<String, ScoreEntry> board = board(date);
+        String key = NicknameIndex.canonical(newEntry.getNickname());
+        ScoreEntry existing = board.get(key);
+
+        if (existing != null && newEntry.getScore() <= existing.getScore()) return;
+        board.put(key, newEntry);
+
+        saveBoard(date.toString(), board);
+    }
+
+    /**
+     * Returns the top N scores of a given date sorted in descending order by score.
+     *
+     * @param date  the challenge date
+     * @param limit maximum number of top scores to return
+     * @return list of top ScoreEntry objects, empty if nobody played that day
+     */
+    public synchronized List<ScoreEntry> getTopScores(LocalDate date, int limit) {
+        loading.join();
+        String isoDate = date.toString();
+        // Dates without a board are answered without caching them, except today's, which fills up soon
+        if (!boards.containsKey(isoDate) && !storedDates.contains(isoDate)
+                && !date.equals(LocalDate.now(DAILY_CHALLENGE_ZONE))) {
+            return new ArrayList<>();
+        }
+        return board(date).values().stream()
+                .sorted(Comparator.comparingInt(ScoreEntry::getScore).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private SnapshotManager snapshotsOf(String isoDate) {
+        return snapshots.computeIfAbsent(isoDate,
+                d -> new SnapshotManager(directory().resolve(d + ".ser"), SNAPSHOT_GENERATIONS));
+    }
+
+    /**
+     * Creates the boards directory if it does not exist yet.
+     */
+    private static Path directory() {
+        try {
+            return Files.createDirectories(DIRECTORY);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
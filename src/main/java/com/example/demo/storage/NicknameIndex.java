@@ -0,0 +1,242 @@
+package com.example.demo.storage;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * In-memory index of registered nicknames used to spot near-duplicates.
+ * Every nickname is reduced to a "skeleton" (case-folded, leet digits and symbols mapped to letters,
+ * separators and repeated letters removed), so "Bob", " b0b ", "B_o_b" and "boob" all share one skeleton.
+ *
+ * <p>Skeletons one edit apart are found with a symmetric-delete index: each skeleton is filed under
+ * the hash of itself and of every variant with one character deleted. Two strings are within
+ * edit distance 1 exactly when they share such a variant, so a lookup costs one hash probe per
+ * character of the query, independent of how many nicknames are registered. Postings live in
+ * primitive arrays to keep millions of names affordable.</p>
+ *
+ * <p>Very short skeletons are only matched exactly: one edit away from "q" or "bo" lie most short names
+ * (every one- and two-letter name is within one edit of "q"), which are neither meaningful
+ * look-alikes nor cheap to list.</p>
+ */
+public class NicknameIndex {
+
+    // Leet digits and symbols mapped to the letters they usually stand for
+    private static final Map<Character, Character> LOOKALIKES = Map.ofEntries(
+            Map.entry('0', 'o'), Map.entry('1', 'i'), Map.entry('l', 'i'), Map.entry('|', 'i'),
+            Map.entry('!', 'i'), Map.entry('3', 'e'), Map.entry('4', 'a'), Map.entry('@', 'a'),
+            Map.entry('5', 's'), Map.entry('$', 's'), Map.entry('7', 't'), Map.entry('8', 'b'),
+            Map.entry('9', 'g'), Map.entry('2', 'z'));
+
+    // Skeletons shorter than this are only matched exactly, never within one edit
+    private static final int MIN_FUZZY_SKELETON_LENGTH = 4;
+
+    private static final int EMPTY = -1;
+
+    // Registered nicknames (as first seen) per skeleton
+    private final Map<String, List<String>> namesBySkeleton = new HashMap<>();
+    // Distinct skeletons by id; postings refer to these ids
+    private final List<String> skeletons = new ArrayList<>();
+
+    // Open-addressing table from variant hash to the first posting of that hash
+    private int[] slotHashes;
+    private int[] slotHeads;
+    private int usedSlots;
+    // Postings as linked lists in parallel arrays: skeleton id and next posting
+    private int[] postingSkeletons;
+    private int[] postingNext;
+    private int postings;
+
+    /**
+     * Creates an empty index.
+     */
+    public NicknameIndex() {
+        clear();
+    }
+
+    /**
+     * Returns the canonical lookup key of a nickname: Unicode-normalized, trimmed,
+     * with inner whitespace collapsed and case folded. Two nicknames with the same key
+     * are treated as the same player.
+     *
+     * @param nickname the nickname as entered
+     * @return the canonical key
+     * @throws IllegalArgumentException if the nickname is null or blank
+     */
+    public static String canonical(String nickname) {
+        if (nickname == null || nickname.isBlank()) {
+            throw new IllegalArgumentException("Nickname must not be empty.");
+        }
+        String normalized = Normalizer.normalize(nickname, Normalizer.Form.NFKC).trim().replaceAll("\\s+", " ");
+        return normalized.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the skeleton of a nickname used for near-duplicate detection.
+     *
+     * @param nickname the nickname as entered
+     * @return the skeleton (may be empty if the nickname has no letters or digits)
+     */
+    static String skeleton(String nickname) {
+        String key = canonical(nickname);
+        StringBuilder sb = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            char c = LOOKALIKES.getOrDefault(key.charAt(i), key.charAt(i));
+            if (!Character.isLetterOrDigit(c)) continue;
+            if (sb.length() > 0 && sb.charAt(sb.length() - 1) == c) continue;
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Registers a nickname in the index.
+     *
+     * @param nickname the nickname to add
+     */
+    public void add(String nickname) {
+        String skeleton = skeleton(nickname);
+        List<String> names = namesBySkeleton.get(skeleton);
+        if (names == null) {
+            namesBySkeleton.put(skeleton, names = new ArrayList<>(1));
+            int id = skeletons.size();
+            skeletons.add(skeleton);
+            for (String variant : deletionVariants(skeleton)) {
+                addPosting(variant.hashCode(), id);
+            }
+        }
+        names.add(nickname);
+    }
+
+    /**
+     * Returns registered nicknames that look like the given one: the same skeleton,
+     * or (when both skeletons have at least four characters) a skeleton one insertion,
+     * deletion or substitution away. Nicknames with the same canonical key as the query are not included.
+     *
+     * @param nickname the nickname to check
+     * @param limit    maximum number of nicknames to return
+     * @return at most {@code limit} similar registered nicknames, exact skeleton matches first
+     */
+    public List<String> findSimilar(String nickname, int limit) {
+        String key = canonical(nickname);
+        String skeleton = skeleton(nickname);
+
+        List<String> similar = new ArrayList<>();
+        addMatches(similar, namesBySkeleton.get(skeleton), key, limit);
+        if (skeleton.length() < MIN_FUZZY_SKELETON_LENGTH) return similar;
+
+        Set<Integer> seen = new HashSet<>();
+        for (String variant : deletionVariants(skeleton)) {
+            for (int p = slotHeads[findSlot(variant.hashCode())]; p != EMPTY; p = postingNext[p]) {
+                if (similar.size() >= limit) return similar;
+                int id = postingSkeletons[p];
+                if (!seen.add(id)) continue;
+                String candidate = skeletons.get(id);
+                if (candidate.length() < MIN_FUZZY_SKELETON_LENGTH || candidate.equals(skeleton)) continue;
+                // Hashes can collide, so confirm the distance on the actual strings
+                if (withinOneEdit(skeleton, candidate)) {
+                    addMatches(similar, namesBySkeleton.get(candidate), key, limit);
+                }
+            }
+        }
+        return similar;
+    }
+
+    /**
+     * Appends names other than the queried one until the limit is reached.
+     */
+    private static void addMatches(List<String> similar, List<String> names, String key, int limit) {
+        if (names == null) return;
+        for (String name : names) {
+            if (similar.size() >= limit) return;
+            if (!canonical(name).equals(key)) similar.add(name);
+        }
+    }
+
+    /**
+     * Removes every nickname from the index.
+     */
+    public void clear() {
+        namesBySkeleton.clear();
+        skeletons.clear();
+        slotHashes = new int[1024];
+        slotHeads = new int[1024];
+        Arrays.fill(slotHeads, EMPTY);
+        usedSlots = 0;
+        postingSkeletons = new int[1024];
+        postingNext = new int[1024];
+        postings = 0;
+    }
+
+    /**
+     * Returns the skeleton itself plus every distinct variant with one character deleted.
+     */
+    private static Set<String> deletionVariants(String skeleton) {
+        Set<String> variants = new LinkedHashSet<>();
+        variants.add(skeleton);
+        for (int i = 0; i < skeleton.length(); i++) {
+            variants.add(skeleton.substring(0, i) + skeleton.substring(i + 1));
+        }
+        return variants;
+    }
+
+    /**
+     * Prepends a posting for the given variant hash.
+     */
+    private void addPosting(int hash, int skeletonId) {
+        if (postings == postingSkeletons.length) {
+            postingSkeletons = Arrays.copyOf(postingSkeletons, postings * 2);
+            postingNext = Arrays.copyOf(postingNext, postings * 2);
+        }
+        int slot = findSlot(hash);
+        boolean newSlot = slotHeads[slot] == EMPTY;
+        slotHashes[slot] = hash;
+        postingSkeletons[postings] = skeletonId;
+        postingNext[postings] = slotHeads[slot];
+        slotHeads[slot] = postings++;
+        // Keep the table at most half full so probe sequences stay short
+        if (newSlot && ++usedSlots * 2 > slotHeads.length) rehash();
+    }
+
+    /**
+     * Returns the slot holding the given hash, or the empty slot where it would go.
+     */
+    private int findSlot(int hash) {
+        int mask = slotHeads.length - 1;
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (slotHeads[slot] != EMPTY && slotHashes[slot] != hash) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Doubles the slot table, keeping each slot's posting list.
+     */
+    private void rehash() {
+        int[] oldHashes = slotHashes;
+        int[] oldHeads = slotHeads;
+        slotHashes = new int[oldHeads.length * 2];
+        slotHeads = new int[oldHeads.length * 2];
+        Arrays.fill(slotHeads, EMPTY);
+        for (int i = 0; i < oldHeads.length; i++) {
+            if (oldHeads[i] == EMPTY) continue;
+            int slot = findSlot(oldHashes[i]);
+            slotHashes[slot] = oldHashes[i];
+            slotHeads[slot] = oldHeads[i];
+        }
+    }
+
+    /**
+     * Checks whether two different strings are exactly one insertion, deletion or substitution apart.
+     */
+    private static boolean withinOneEdit(String a, String b) {
+        if (a.length() > b.length()) return withinOneEdit(b, a);
+        if (b.length() - a.length() > 1) return false;
+        int i = 0;
+        while (i < a.length() && a.charAt(i) == b.charAt(i)) i++;
+        if (a.length() == b.length()) {
+            return a.regionMatches(i + 1, b, i + 1, a.length() - i - 1);
+        }
+        return a.regionMatches(i, b, i + 1, a.length() - i);
+    }
+}
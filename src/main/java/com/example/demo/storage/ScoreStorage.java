@@ -1,58 +1,100 @@
 package com.example.demo.storage;
 
 import com.example.demo.model.ScoreEntry;
-import java.io.*;
+import com.example.demo.util.ErrorLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static com.example.demo.util.Constants.SCORES_FILE;
+import static com.example.demo.util.Constants.SNAPSHOT_GENERATIONS;
 
 /**
  * Handles persistence and retrieval of player scores using file-based serialization.
- * Maintains a list of ScoreEntry objects and provides methods to add, retrieve, and clear scores.
+ * Keeps one ScoreEntry per player, keyed by the canonical form of the nickname,
+ * and provides methods to add, retrieve, and clear scores and to check nickname availability.
  */
 public class ScoreStorage {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ScoreStorage.class);
+
     // The filename used for storing serialized score data
     private static final String FILE_NAME = SCORES_FILE;
-    // Internal list of scores loaded from the file
-    private List<ScoreEntry> scores;
+    // Background load of the scores; completes with the entries keyed by canonical nickname
+    private final CompletableFuture<Map<String, ScoreEntry>> loading;
+    // Crash-safe generations of the score file
+    private final SnapshotManager snapshots = new SnapshotManager(Paths.get(FILE_NAME), SNAPSHOT_GENERATIONS);
+    // Near-duplicate index over all stored nicknames
+    private final NicknameIndex nicknameIndex = new NicknameIndex();
 
     /**
-     * Constructor that initializes and loads scores from disk.
+     * Constructor that starts loading scores from disk in the background.
      */
     public ScoreStorage() {
-        this.scores = loadScores();
+        this.loading = StorageLoader.load(this::loadScores);
+    }
+
+    /**
+     * Returns a future that completes once the scores have been loaded from disk.
+     *
+     * @return future completed when the storage is ready to serve requests
+     */
+    public CompletableFuture<Void> whenLoaded() {
+        return loading.thenAccept(loaded -> { });
+    }
+
+    /**
+     * Returns the scores keyed by canonical nickname, waiting for the background load if it is still running.
+     *
+     * @return the loaded ScoreEntry objects
+     */
+    private Map<String, ScoreEntry> scores() {
+        return loading.join();
     }
 
     /**
-     * Loads scores from the serialized file.
-     * If the file doesn't exist or loading fails, returns an empty list.
+     * Loads scores from the newest valid snapshot and indexes them by nickname.
+     * If no score file was ever written, returns an empty map. If score files exist but none is readable,
+     * the load fails: the storage then refuses all requests instead of starting empty and overwriting the
+     * scores with the next save.
      *
-     * @return list of ScoreEntry objects
+     * @return ScoreEntry objects keyed by canonical nickname
+     * @throws IllegalStateException if score files exist but none could be read
      */
-    private List<ScoreEntry> loadScores() {
-        File file = new File(FILE_NAME);
-        if (!file.exists()) return new ArrayList<>();
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
-            Object obj = ois.readObject();
-            if (obj instanceof List<?>) {
-                return (List<ScoreEntry>) obj;
+    private Map<String, ScoreEntry> loadScores() {
+        Map<String, ScoreEntry> loaded = new LinkedHashMap<>();
+        Object obj = snapshots.load();
+        if (obj instanceof List<?>) {
+            for (ScoreEntry entry : (List<ScoreEntry>) obj) {
+                if (entry == null || entry.getNickname() == null || entry.getNickname().isBlank()) continue;
+                // Older files may hold near-identical nicknames; keep the best score per canonical key
+                ScoreEntry previous = loaded.putIfAbsent(NicknameIndex.canonical(entry.getNickname()), entry);
+                if (previous == null) {
+                    nicknameIndex.add(entry.getNickname());
+                } else if (entry.getScore() > previous.getScore()) {
+                    loaded.put(NicknameIndex.canonical(entry.getNickname()), entry);
+                }
             }
-        } catch (Exception e) {
-            System.err.println("Error loading " + FILE_NAME + ": " + e.getMessage());
+        } else if (snapshots.exists()) {
+            throw new IllegalStateException(FILE_NAME + " exists but could not be read");
         }
-        return new ArrayList<>();
+        return loaded;
     }
 
     /**
-     * Saves the current list of scores to the serialized file.
+     * Saves the current scores as a new snapshot generation.
+     * The snapshot holds a plain list of ScoreEntry objects.
      */
     private void saveScores() {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(FILE_NAME))) {
-            oos.writeObject(scores);
+        try {
+            snapshots.save(new ArrayList<>(scores().values()));
         } catch (IOException e) {
-            System.err.println("Error saving " + FILE_NAME + ": " + e.getMessage());
+            ErrorLog.error(LOG, "Error saving " + FILE_NAME, e);
         }
     }
 
@@ -62,31 +104,53 @@ public class ScoreStorage {
      *
      * @param newEntry the new ScoreEntry to add
      */
-    public void addScore(ScoreEntry newEntry) {
-        Optional<ScoreEntry> existing = scores.stream()
-                .filter(s -> s.getNickname().equalsIgnoreCase(newEntry.getNickname()))
-                .findFirst();
-
-        if (existing.isPresent()) {
-            if (newEntry.getScore() > existing.get().getScore()) {
-                scores.remove(existing.get());
-                scores.add(newEntry);
-            }
+    public synchronized void addScore(ScoreEntry newEntry) {
+        String key = NicknameIndex.canonical(newEntry.getNickname());
+        ScoreEntry existing = scores().get(key);
+
+        if (existing == null) {
+            scores().put(key, newEntry);
+            nicknameIndex.add(newEntry.getNickname());
+        } else if (newEntry.getScore() > existing.getScore()) {
+            scores().put(key, newEntry);
         } else {
-            scores.add(newEntry);
+            return;
         }
 
         saveScores();
     }
 
+    /**
+     * Checks whether a nickname already belongs to a player (same canonical form).
+     *
+     * @param nickname the nickname to look up
+     * @return true if a score is stored under that nickname
+     */
+    public synchronized boolean hasNickname(String nickname) {
+        return scores().containsKey(NicknameIndex.canonical(nickname));
+    }
+
+    /**
+     * Returns stored nicknames that are near-duplicates of the given one,
+     * such as leet spellings, extra separators or a single-letter difference.
+     *
+     * @param nickname the nickname to check
+     * @param limit    maximum number of nicknames to return
+     * @return at most {@code limit} similar stored nicknames, closest first
+     */
+    public synchronized List<String> findSimilarNicknames(String nickname, int limit) {
+        scores(); // the index is filled by the background load
+        return nicknameIndex.findSimilar(nickname, limit);
+    }
+
     /**
      * Returns the top N scores sorted in descending order by score.
      *
      * @param limit maximum number of top scores to return
      * @return list of top ScoreEntry objects
      */
-    public List<ScoreEntry> getTopScores(int limit) {
-        return scores.stream()
+    public synchronized List<ScoreEntry> getTopScores(int limit) {
+        return scores().values().stream()
                 .sorted(Comparator.comparingInt(ScoreEntry::getScore).reversed())
                 .limit(limit)
                 .collect(Collectors.toList());
@@ -97,15 +161,16 @@ public class ScoreStorage {
      *
      * @return list of all ScoreEntry objects
      */
-    public List<ScoreEntry> getAllScores() {
-        return new ArrayList<>(scores);
+    public synchronized List<ScoreEntry> getAllScores() {
+        return new ArrayList<>(scores().values());
     }
 
     /**
      * Clears all stored scores and updates the file.
      */
-    public void clearScores() {
-        scores.clear();
+    public synchronized void clearScores() {
+        scores().clear();
+        nicknameIndex.clear();
         saveScores();
     }
 }
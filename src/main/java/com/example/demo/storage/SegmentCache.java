@@ -0,0 +1,177 @@
+package com.example.demo.storage;
+
+import com.example.demo.model.SegmentStats;
+import com.example.demo.model.WordEntry;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory cache of dictionary segments (the words of one category) with a memory budget.
+ * Segments are evicted in least-recently-used order once their estimated size exceeds the budget;
+ * the most recently used segment is always kept, even if it alone is larger than the budget.
+ * Cached lists are immutable, so readers never see a segment change under them.
+ * Loads of the same category are coalesced, while different categories load in parallel.
+ */
+public class SegmentCache {
+
+    // Rough heap cost of one WordEntry and its three strings, excluding the characters
+    private static final long ENTRY_OVERHEAD_BYTES = 160;
+
+    private final long maxBytes;
+    // Cached segments, least recently used first; get() and put() move a segment to the end explicitly,
+    // so plain lookups such as peek() leave the order alone
+    private final LinkedHashMap<String, Segment> segments = new LinkedHashMap<>();
+    // One lock per category so a slow disk load does not block other categories
+    private final Map<String, Object> loadLocks = new ConcurrentHashMap<>();
+    private long cachedBytes;
+
+    private long hits;
+    private long misses;
+    private long loads;
+    private long evictions;
+    private long loadNanos;
+
+    /**
+     * Creates a cache with the given memory budget.
+     *
+     * @param maxBytes estimated heap budget for cached segments
+     */
+    public SegmentCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the segment of a category, loading it on a miss.
+     *
+     * @param category the category (lowercase)
+     * @param loader   reads the segment from disk
+     * @return the immutable list of words in that category
+     */
+    public List<WordEntry> get(String category, Function<String, List<WordEntry>> loader) {
+        synchronized (this) {
+            Segment cached = segments.get(category);
+            if (cached != null) {
+                hits++;
+                touch(category, cached);
+                return cached.words;
+            }
+            misses++;
+        }
+        synchronized (loadLock(category)) {
+            return loadIfAbsent(category, loader);
+        }
+    }
+
+    /**
+     * Returns the segment of a category only if it is already cached, without loading it, counting a hit or miss,
+     * or making it more recently used.
+     *
+     * @param category the category (lowercase)
+     * @return the cached immutable segment, or null
+     */
+    public synchronized List<WordEntry> peek(String category) {
+        Segment cached = segments.get(category);
+        return cached != null ? cached.words : null;
+    }
+
+    /**
+     * Replaces the segment of a category with a changed copy.
+     * The change runs while no other load or update of that category can interleave.
+     *
+     * @param category the category (lowercase)
+     * @param loader   reads the segment from disk if it is not cached
+     * @param change   computes the new segment from the current one (and persists it)
+     * @return the new immutable segment
+     */
+    public List<WordEntry> update(String category, Function<String, List<WordEntry>> loader,
+                                  UnaryOperator<List<WordEntry>> change) {
+        synchronized (loadLock(category)) {
+            List<WordEntry> updated = List.copyOf(change.apply(loadIfAbsent(category, loader)));
+            synchronized (this) {
+                put(category, updated);
+            }
+            return updated;
+        }
+    }
+
+    /**
+     * Returns the cache counters and current size.
+     *
+     * @return a snapshot of the segment statistics
+     */
+    public synchronized SegmentStats stats() {
+        return new SegmentStats(hits, misses, loads, evictions,
+                loads == 0 ? 0 : loadNanos / loads / 1_000_000.0,
+                segments.size(), cachedBytes, maxBytes);
+    }
+
+    /**
+     * Returns the cached segment or loads and caches it. Must be called holding the category's load lock.
+     */
+    private List<WordEntry> loadIfAbsent(String category, Function<String, List<WordEntry>> loader) {
+        synchronized (this) {
+            Segment cached = segments.get(category);
+            if (cached != null) return cached.words;
+        }
+        long start = System.nanoTime();
+        List<WordEntry> words = List.copyOf(loader.apply(category));
+        synchronized (this) {
+            loads++;
+            loadNanos += System.nanoTime() - start;
+            put(category, words);
+        }
+        return words;
+    }
+
+    /**
+     * Stores a segment and evicts least recently used ones while over budget.
+     */
+    private void put(String category, List<WordEntry> words) {
+        Segment segment = new Segment(words);
+        Segment previous = segments.remove(category);
+        segments.put(category, segment);
+        if (previous != null) cachedBytes -= previous.bytes;
+        cachedBytes += segment.bytes;
+
+        Iterator<Map.Entry<String, Segment>> eldest = segments.entrySet().iterator();
+        while (cachedBytes > maxBytes && segments.size() > 1) {
+            Map.Entry<String, Segment> victim = eldest.next();
+            cachedBytes -= victim.getValue().bytes;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Marks a cached segment as the most recently used by moving it to the end of the order.
+     */
+    private void touch(String category, Segment segment) {
+        segments.remove(category);
+        segments.put(category, segment);
+    }
+
+    private Object loadLock(String category) {
+        return loadLocks.computeIfAbsent(category, c -> new Object());
+    }
+
+    /**
+     * A cached segment and its estimated heap size.
+     */
+    private static class Segment {
+        final List<WordEntry> words;
+        final long bytes;
+
+        Segment(List<WordEntry> words) {
+            this.words = words;
+            long size = 0;
+            for (WordEntry w : words) {
+                size += ENTRY_OVERHEAD_BYTES
+                        + 2L * (w.getCategory().length() + w.getWord().length() + w.getHint().length());
+            }
+            this.bytes = size;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.demo.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Crash-safe snapshot files shared by the word and score storages.
+ *
+ * <p>Each save writes a new generation {@code <file>.<n>} by serializing into a temporary file in the
+ * same directory, forcing it to disk, and atomically renaming it into place; the live generations are
+ * never opened for writing. Every generation starts with a header holding a magic number, the payload
+ * length and a CRC32C checksum. Only the newest generations are kept.</p>
+ *
+ * <p>On load, generations are tried from newest to oldest and the first one whose checksum matches wins,
+ * so a torn or corrupted snapshot costs at most the latest save instead of all data. Only generations that
+ * fail the header or checksum check are set aside; a verified generation that cannot be read or deserialized
+ * (an I/O error, or classes changed incompatibly by a deploy) is an error, because the older generations
+ * would fail the same way. A plain serialized {@code <file>} from before this format is read as a last
+ * resort, and is renamed to {@code <file>.migrated} once the first generation has been written.</p>
+ */
+public class SnapshotManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotManager.class);
+
+    // "WGS1": identifies a snapshot file of this format
+    private static final int MAGIC = 0x57475331;
+    private static final int HEADER_SIZE = 4 + 4 + 4;
+
+    private final Path file;
+    private final Path directory;
+    private final int generations;
+    private final Pattern generationName;
+    // Number of the most recently written generation
+    private long lastGeneration;
+
+    /**
+     * Creates a snapshot manager for the given file.
+     *
+     * @param file        the base file, e.g. {@code words.ser}; generations are written next to it
+     * @param generations how many of the newest generations to keep (at least 1)
+     */
+    public SnapshotManager(Path file, int generations) {
+        this.file = file.toAbsolutePath();
+        this.directory = this.file.getParent();
+        this.generations = Math.max(1, generations);
+        this.generationName = Pattern.compile(Pattern.quote(this.file.getFileName().toString()) + "\\.(\\d+)");
+        this.lastGeneration = listGenerations().stream().findFirst().orElse(0L);
+        deleteLeftoverTempFiles();
+    }
+
+    /**
+     * Writes the data as a new generation and prunes generations beyond the configured count.
+     *
+     * @param data the serializable object graph to persist
+     * @throws IOException if the snapshot could not be written; earlier generations are left intact
+     */
+    public synchronized void save(Object data) throws IOException {
+        byte[] payload = serialize(data);
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue());
+        header.flip();
+
+        long generation = lastGeneration + 1;
+        Path target = generationPath(generation);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString() + ".", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer body = ByteBuffer.wrap(payload);
+                while (header.hasRemaining()) channel.write(header);
+                while (body.hasRemaining()) channel.write(body);
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        lastGeneration = generation;
+        if (Files.exists(file)) {
+            // The generations now supersede the pre-snapshot file; never fall back to it again
+            Files.move(file, file.resolveSibling(file.getFileName() + ".migrated"), StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory();
+        prune();
+    }
+
+    /**
+     * Loads the newest valid snapshot.
+     * Generations that fail verification are renamed to {@code <generation>.corrupt} so they no longer
+     * count towards the kept generations and can be inspected later.
+     *
+     * @return the deserialized object, or null if there is no readable snapshot
+     * @throws UncheckedIOException  if a generation could not be read from disk
+     * @throws IllegalStateException if a verified generation could not be deserialized
+     */
+    public synchronized Object load() {
+        for (long generation : listGenerations()) {
+            Path path = generationPath(generation);
+            byte[] payload;
+            try {
+                payload = readVerified(path);
+            } catch (CorruptSnapshotException e) {
+                LOG.warn("Skipping corrupt snapshot {}: {}", path.getFileName(), e.getMessage());
+                quarantine(path);
+                continue;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read snapshot " + path.getFileName(), e);
+            }
+            try {
+                return deserialize(payload);
+            } catch (IOException | ClassNotFoundException e) {
+                throw new IllegalStateException("Snapshot " + path.getFileName() + " passed its checksum but could not be deserialized", e);
+            }
+        }
+        if (Files.exists(file)) {
+            try {
+                return deserialize(Files.readAllBytes(file));
+            } catch (Exception e) {
+                LOG.warn("Skipping unreadable snapshot {}: {}", file.getFileName(), e.toString());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether anything was ever stored for this file: a generation, a quarantined generation
+     * or the plain file. Lets callers tell a file that was never written from one that exists but
+     * cannot be read, in which case {@link #load()} returns null for both.
+     *
+     * @return true if any snapshot file exists, readable or not
+     */
+    public synchronized boolean exists() {
+        if (Files.exists(file)) return true;
+        String name = file.getFileName().toString();
+        Pattern quarantined = Pattern.compile(Pattern.quote(name) + "\\.\\d+\\.corrupt");
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(p -> p.getFileName().toString())
+                    .anyMatch(n -> generationName.matcher(n).matches() || quarantined.matcher(n).matches());
+        } catch (IOException e) {
+            // Cannot tell, so assume data may be there rather than treating it as empty
+            LOG.warn("Could not list snapshots in {}: {}", directory, e.toString());
+            return true;
+        }
+    }
+
+    /**
+     * Renames the plain file and every generation to {@code <name>.migrated} once their content has been
+     * moved to another storage layout, so they are no longer loaded but stay available for inspection.
+     *
+     * @throws IOException if a file could not be renamed
+     */
+    public synchronized void markMigrated() throws IOException {
+        List<Path> paths = new ArrayList<>();
+        for (long generation : listGenerations()) paths.add(generationPath(generation));
+        if (Files.exists(file)) paths.add(file);
+        for (Path path : paths) {
+            Files.move(path, path.resolveSibling(path.getFileName() + ".migrated"), StandardCopyOption.REPLACE_EXISTING);
+        }
+        lastGeneration = 0;
+        syncDirectory();
+    }
+
+    /**
+     * Reads a generation file and checks its header and checksum.
+     *
+     * @throws CorruptSnapshotException if the header, length or checksum does not match
+     * @throws IOException              if the file could not be read
+     */
+    private static byte[] readVerified(Path path) throws IOException {
+        byte[] bytes = Files.readAllBytes(path);
+        if (bytes.length < HEADER_SIZE) throw new CorruptSnapshotException("truncated header");
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.getInt() != MAGIC) throw new CorruptSnapshotException("bad magic number");
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        if (length != bytes.length - HEADER_SIZE) throw new CorruptSnapshotException("length mismatch");
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, HEADER_SIZE, length);
+        if ((int) crc.getValue() != checksum) throw new CorruptSnapshotException("checksum mismatch");
+        return Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length);
+    }
+
+    /**
+     * Returns the existing generation numbers, newest first.
+     */
+    private List<Long> listGenerations() {
+        List<Long> found = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(p -> {
+                Matcher m = generationName.matcher(p.getFileName().toString());
+                if (m.matches()) found.add(Long.parseLong(m.group(1)));
+            });
+        } catch (IOException e) {
+            LOG.warn("Could not list snapshots in {}: {}", directory, e.toString());
+        }
+        found.sort(Comparator.reverseOrder());
+        return found;
+    }
+
+    /**
+     * Deletes all but the newest generations.
+     */
+    private void prune() {
+        List<Long> existing = listGenerations();
+        for (long generation : existing.subList(Math.min(generations, existing.size()), existing.size())) {
+            try {
+                Files.deleteIfExists(generationPath(generation));
+            } catch (IOException e) {
+                LOG.warn("Could not delete old snapshot {}: {}", generationPath(generation).getFileName(), e.toString());
+            }
+        }
+    }
+
+    /**
+     * Moves a corrupted generation out of the way.
+     */
+    private void quarantine(Path path) {
+        try {
+            Files.move(path, path.resolveSibling(path.getFileName() + ".corrupt"), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOG.warn("Could not quarantine snapshot {}: {}", path.getFileName(), e.toString());
+        }
+    }
+
+    /**
+     * Removes temporary files left behind by a save that crashed before its rename.
+     */
+    private void deleteLeftoverTempFiles() {
+        String prefix = file.getFileName() + ".";
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(p -> p.getFileName().toString().startsWith(prefix) && p.getFileName().toString().endsWith(".tmp"))
+                    .forEach(p -> p.toFile().delete());
+        } catch (IOException e) {
+            LOG.warn("Could not clean up temporary snapshots in {}: {}", directory, e.toString());
+        }
+    }
+
+    /**
+     * Forces the directory entry of the rename to disk. Not supported on every platform, so failures are ignored.
+     */
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException ignored) {
+            // e.g. Windows cannot open directories; the rename itself is still atomic
+        }
+    }
+
+    private Path generationPath(long generation) {
+        return directory.resolve(file.getFileName() + "." + generation);
+    }
+
+    private static byte[] serialize(Object data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+            oos.writeObject(data);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return ois.readObject();
+        }
+    }
+
+    /**
+     * A generation whose header or checksum shows it was torn or corrupted on disk.
+     */
+    private static class CorruptSnapshotException extends IOException {
+        CorruptSnapshotException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.storage;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the startup loads of the storages on a small dedicated thread pool.
+ * The common ForkJoin pool is sized from the CPU count (a parallelism of 1 on a 2-CPU container),
+ * which would run the "parallel" loads one after another on exactly the small nodes that need fast startup.
+ */
+final class StorageLoader {
+
+    // Enough threads for every storage to load at once; they are mostly waiting on disk
+    private static final int THREADS = 4;
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+            THREADS, THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+                Thread thread = new Thread(task, "storage-load-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    static {
+        // Let the threads go away once startup loading is over
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private StorageLoader() {}
+
+    /**
+     * Starts a load in the background.
+     *
+     * @param loader the loading task
+     * @param <T>    the type of the loaded data
+     * @return future completed with the loaded data
+     */
+    static <T> CompletableFuture<T> load(Supplier<T> loader) {
+        return CompletableFuture.supplyAsync(loader, EXECUTOR);
+    }
+}
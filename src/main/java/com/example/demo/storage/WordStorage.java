@@ -1,143 +1,427 @@
 package com.example.demo.storage;
 
+import com.example.demo.model.SegmentStats;
 import com.example.demo.model.WordEntry;
-import java.io.*;
+import com.example.demo.util.ErrorLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static com.example.demo.util.Constants.DAILY_CHALLENGE_SEED;
+import static com.example.demo.util.Constants.DAILY_CHALLENGE_ZONE;
+import static com.example.demo.util.Constants.SNAPSHOT_GENERATIONS;
+import static com.example.demo.util.Constants.WORDS_DIR;
 import static com.example.demo.util.Constants.WORDS_FILE;
+import static com.example.demo.util.Constants.WORD_SEGMENT_CACHE_BYTES;
 
 /**
  * Handles file-based storage and retrieval of word entries.
  * Supports adding, deleting, validating, and fetching words by category.
+ *
+ * <p>The dictionary is split into one segment per category ({@code words/<category>/<category>.ser})
+ * plus a small manifest listing the categories ({@code words/manifest.ser}). Only the manifest is read at
+ * startup, so categories are available immediately; a category's segment is read on first use and kept in
+ * a {@link SegmentCache} that evicts cold segments under a memory budget. Adding or deleting a word rewrites
+ * only that category's segment, and the manifest only when a category appears or disappears.</p>
  */
 public class WordStorage {
 
-    // Path to the file where words are stored
-    private static final String FILE_NAME = WORDS_FILE;
-    // In-memory list of WordEntry objects loaded from file
-    private List<WordEntry> words;
+    private static final Logger LOG = LoggerFactory.getLogger(WordStorage.class);
+
+    private static final String MANIFEST_FILE_NAME = "manifest.ser";
+
+    // Directory holding the manifest and one subdirectory per category segment
+    private final Path directory;
+    // Single-file dictionary from before segmentation, imported on first start
+    private final Path legacyFile;
+    // Background load of the manifest; categories are served as soon as it completes
+    private final CompletableFuture<Void> loading;
+    // Current categories in manifest order; replaced as a whole on change
+    private volatile List<String> categories = List.of();
+    // Loaded category segments under the memory budget
+    private final SegmentCache segments;
+    // Snapshot managers of the category segments, created on first use
+    private final Map<String, SnapshotManager> segmentSnapshots = new ConcurrentHashMap<>();
+    // Deterministic daily-challenge picks, cached for the current day
+    private final DailySchedule dailySchedule = new DailySchedule(DAILY_CHALLENGE_SEED);
 
     /**
-     * Constructor that loads word entries from disk on initialization.
+     * Constructor that starts loading the category manifest in the background,
+     * using the default segment memory budget.
      */
     public WordStorage() {
-        this.words = loadWords();
+        this(WORD_SEGMENT_CACHE_BYTES);
     }
 
     /**
-     * Loads and sanitizes word entries from the serialized file.
-     * Filters out invalid entries and normalizes valid ones.
+     * Constructor that starts loading the category manifest in the background.
+     * The constructor returns immediately; callers block only when they first touch the data.
      *
-     * @return a list of cleaned and validated WordEntry objects
+     * @param maxCacheBytes estimated heap budget for cached category segments
+     */
+    public WordStorage(long maxCacheBytes) {
+        this(Paths.get(WORDS_DIR), Paths.get(WORDS_FILE), maxCacheBytes);
+    }
+
+    /**
+     * Constructor for a dictionary kept in the given directory.
+     *
+     * @param directory     directory holding the manifest and the category segments
+     * @param legacyFile    single-file dictionary of older versions, split into segments if present
+     * @param maxCacheBytes estimated heap budget for cached category segments
+     */
+    WordStorage(Path directory, Path legacyFile, long maxCacheBytes) {
+        this.directory = directory;
+        this.legacyFile = legacyFile;
+        this.segments = new SegmentCache(maxCacheBytes);
+        this.loading = StorageLoader.load(this::loadManifest).thenAccept(loaded -> categories = loaded);
+    }
+
+    /**
+     * Returns a future that completes once the category manifest has been loaded from disk.
+     *
+     * @return future completed when the storage is ready to serve requests
+     */
+    public CompletableFuture<Void> whenLoaded() {
+        return loading;
+    }
+
+    /**
+     * Returns the current categories, waiting for the background load if it is still running.
+     *
+     * @return immutable list of lowercase category names
      */
-    private List<WordEntry> loadWords() {
-        File file = new File(FILE_NAME);
-        if (!file.exists()) return new ArrayList<>();
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
-            Object obj = ois.readObject();
+    private List<String> categories() {
+        loading.join();
+        return categories;
+    }
+
+    /**
+     * Loads the category manifest, or recreates it if it is missing or unreadable:
+     * <ul>
+     *   <li>If the legacy single-file dictionary is still in place, its split into segments never completed
+     *       (the file is renamed to {@code *.migrated} right after), so it is split now.</li>
+     *   <li>Otherwise the manifest is rebuilt from the segment directories on disk.</li>
+     * </ul>
+     *
+     * @return the list of categories
+     */
+    private List<String> loadManifest() {
+        try {
+            SnapshotManager legacySnapshots = new SnapshotManager(legacyFile, SNAPSHOT_GENERATIONS);
+            Object obj = newManifestSnapshots(directory).load();
             if (obj instanceof List<?>) {
-                return ((List<WordEntry>) obj).stream()
-                        .filter(w -> w != null &&
-                                w.getCategory() != null &&
-                                w.getWord() != null &&
-                                w.getHint() != null &&
-                                w.getCategory().matches("[a-zA-Z]+") &&
-                                w.getWord().matches("[a-zA-Z]+"))
-                        .map(w -> new WordEntry(
-                                w.getCategory().trim().toLowerCase(),
-                                w.getWord().trim().toLowerCase(),
-                                w.getHint().trim()))
-                        .distinct()
-                        .collect(Collectors.toList());
+                // Split by an earlier version that kept the legacy file; retire it so it is never split again
+                if (legacySnapshots.exists()) legacySnapshots.markMigrated();
+                return List.copyOf((List<String>) obj);
+            }
+            List<WordEntry> legacy = loadLegacyWords(legacySnapshots);
+            if (!legacy.isEmpty()) {
+                LOG.info("Splitting {} words from {} into category segments", legacy.size(), legacyFile.getFileName());
+                List<String> written = writeDictionary(directory, legacy);
+                legacySnapshots.markMigrated();
+                return written;
             }
-        } catch (Exception e) {
-            System.err.println("Error loading " + FILE_NAME + ": " + e.getMessage());
+            List<String> found = scanSegments();
+            if (!found.isEmpty()) {
+                LOG.warn("Rebuilding {} from {} category segments", MANIFEST_FILE_NAME, found.size());
+                saveManifest(found);
+            }
+            return found;
+        } catch (IOException e) {
+            // Starting with no categories would let the next added word replace the manifest
+            throw new UncheckedIOException("Could not load " + MANIFEST_FILE_NAME, e);
+        }
+    }
+
+    /**
+     * Lists the categories that have a segment on disk, readable or not, in alphabetical order.
+     *
+     * @return the categories found in the words directory
+     * @throws IOException if the directory cannot be listed
+     */
+    private List<String> scanSegments() throws IOException {
+        try (Stream<Path> dirs = Files.list(directory(directory))) {
+            return dirs.filter(Files::isDirectory)
+                    .map(dir -> dir.getFileName().toString())
+                    .filter(category -> category.matches("[a-z]+") && newSegmentSnapshots(directory, category).exists())
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Loads and sanitizes word entries from the legacy single-file dictionary.
+     * Filters out invalid entries and normalizes valid ones.
+     *
+     * @param legacyFile snapshots of the legacy dictionary file
+     * @return a list of cleaned and validated WordEntry objects
+     */
+    private static List<WordEntry> loadLegacyWords(SnapshotManager legacyFile) {
+        Object obj = legacyFile.load();
+        if (obj instanceof List<?>) {
+            return ((List<WordEntry>) obj).stream()
+                    .filter(w -> w != null &&
+                            w.getCategory() != null &&
+                            w.getWord() != null &&
+                            w.getHint() != null &&
+                            w.getCategory().matches("[a-zA-Z]+") &&
+                            w.getWord().matches("[a-zA-Z]+"))
+                    .map(w -> new WordEntry(
+                            w.getCategory().trim().toLowerCase(),
+                            w.getWord().trim().toLowerCase(),
+                            w.getHint().trim()))
+                    .distinct()
+                    .collect(Collectors.toList());
         }
         return new ArrayList<>();
     }
 
     /**
-     * Saves the current list of word entries to the file.
+     * Writes a complete dictionary as category segments plus manifest.
+     * Used to import the legacy file and by {@code WordInit}.
+     *
+     * @param words normalized word entries (lowercase category and word)
+     * @return the categories written, in first-seen order
+     * @throws IOException if a segment or the manifest could not be written
+     */
+    public static List<String> writeDictionary(List<WordEntry> words) throws IOException {
+        return writeDictionary(Paths.get(WORDS_DIR), words);
+    }
+
+    /**
+     * Writes a complete dictionary as category segments plus manifest into the given directory.
+     *
+     * @param directory directory holding the manifest and the category segments
+     * @param words     normalized word entries (lowercase category and word)
+     * @return the categories written, in first-seen order
+     * @throws IOException if a segment or the manifest could not be written
+     */
+    static List<String> writeDictionary(Path directory, List<WordEntry> words) throws IOException {
+        Map<String, List<WordEntry>> byCategory = words.stream()
+                .collect(Collectors.groupingBy(WordEntry::getCategory, LinkedHashMap::new, Collectors.toList()));
+        for (Map.Entry<String, List<WordEntry>> segment : byCategory.entrySet()) {
+            newSegmentSnapshots(directory, segment.getKey()).save(new ArrayList<>(segment.getValue()));
+        }
+        List<String> written = List.copyOf(byCategory.keySet());
+        newManifestSnapshots(directory).save(new ArrayList<>(written));
+        return written;
+    }
+
+    /**
+     * Reads one category segment from disk.
+     * A segment that was never written is empty; a segment whose files exist but none of which can be read
+     * is an error, so that callers neither cache it as empty nor overwrite it with a new segment.
+     *
+     * @param category the category (lowercase)
+     * @return the words of that category, empty if the segment does not exist
+     * @throws IllegalStateException if the segment exists but no snapshot of it is readable
+     */
+    private List<WordEntry> loadSegment(String category) {
+        SnapshotManager snapshots = segmentSnapshots.computeIfAbsent(category, c -> newSegmentSnapshots(directory, c));
+        Object obj = snapshots.load();
+        if (obj instanceof List<?>) {
+            return (List<WordEntry>) obj;
+        }
+        if (snapshots.exists()) {
+            throw new IllegalStateException("Segment " + category + " exists but could not be read");
+        }
+        return List.of();
+    }
+
+    /**
+     * Writes one category segment as a new snapshot generation.
+     *
+     * @param category the category (lowercase)
+     * @param words    the full content of the segment
+     */
+    private void saveSegment(String category, List<WordEntry> words) {
+        try {
+            segmentSnapshots.computeIfAbsent(category, c -> newSegmentSnapshots(directory, c)).save(new ArrayList<>(words));
+        } catch (IOException e) {
+            ErrorLog.error(LOG, "Error saving segment " + category, e);
+        }
+    }
+
+    /**
+     * Writes the category manifest as a new snapshot generation.
      */
-    private void saveWords() {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(FILE_NAME))) {
-            oos.writeObject(words);
+    private void saveManifest(List<String> updated) {
+        try {
+            newManifestSnapshots(directory).save(new ArrayList<>(updated));
         } catch (IOException e) {
-            System.err.println("Error saving " + FILE_NAME + ": " + e.getMessage());
+            ErrorLog.error(LOG, "Error saving " + MANIFEST_FILE_NAME, e);
         }
     }
 
     /**
      * Retrieves all stored word entries.
+     * Segments that are not cached are read from disk without being added to the cache,
+     * so a full listing does not evict the popular categories. Unreadable segments are logged and skipped.
      *
      * @return list of WordEntry objects
      */
     public List<WordEntry> getAllWords() {
-        return new ArrayList<>(words);
+        List<WordEntry> all = new ArrayList<>();
+        for (String category : categories()) {
+            List<WordEntry> cached = segments.peek(category);
+            try {
+                all.addAll(cached != null ? cached : loadSegment(category));
+            } catch (IllegalStateException | UncheckedIOException e) {
+                ErrorLog.error(LOG, "Error loading segment " + category, e);
+            }
+        }
+        return all;
     }
 
     /**
      * Retrieves a distinct list of all word categories.
+     * Answered from the manifest alone, without reading any segment.
      *
      * @return list of category strings
      */
     public List<String> getAllCategories() {
-        return words.stream()
-                .map(WordEntry::getCategory)
-                .distinct()
-                .collect(Collectors.toList());
+        return new ArrayList<>(categories());
     }
 
     /**
      * Fetches a random word from a specified category.
+     * Loads the category's segment on first use.
      *
      * @param category the category to search in
      * @return a random WordEntry or null if none exist
      */
     public WordEntry getRandomWordByCategory(String category) {
-        List<WordEntry> filtered = words.stream()
-                .filter(w -> w.getCategory().equalsIgnoreCase(category))
-                .collect(Collectors.toList());
-        if (filtered.isEmpty()) return null;
-        return filtered.get(new Random().nextInt(filtered.size()));
+        List<WordEntry> segment = segmentOf(category);
+        if (segment.isEmpty()) return null;
+        return segment.get(ThreadLocalRandom.current().nextInt(segment.size()));
+    }
+
+    /**
+     * Returns the daily-challenge word of a category for the given date.
+     * Every caller gets the same word for the same category and date.
+     *
+     * @param category the category to pick from
+     * @param date     the challenge date
+     * @return the day's WordEntry or null if the category has no words added before that date
+     */
+    public WordEntry getDailyWord(String category, LocalDate date) {
+        return dailySchedule.get(category, date, () -> segmentOf(category));
+    }
+
+    /**
+     * Returns the segment cache metrics (hits, misses, load times, memory use).
+     *
+     * @return a snapshot of the segment statistics
+     */
+    public SegmentStats getSegmentStats() {
+        return segments.stats();
     }
 
     /**
      * Adds a new word entry after checking for duplicates and normalizing input.
+     * The entry is stamped with today's challenge date, so it joins the daily challenge from tomorrow on.
+     * Rewrites only the segment of the entry's category.
      *
      * @param entry the WordEntry to add
      * @throws IllegalArgumentException if a duplicate word exists in the category
+     * @throws IllegalStateException    if the category's segment exists but cannot be read
      */
-    public void addWord(WordEntry entry) {
+    public synchronized void addWord(WordEntry entry) {
         String newCategory = entry.getCategory().trim().toLowerCase();
         String newWord = entry.getWord().trim().toLowerCase();
 
-        boolean exists = words.stream().anyMatch(w ->
-                w.getCategory().equalsIgnoreCase(newCategory) &&
-                        w.getWord().equalsIgnoreCase(newWord));
-
-        if (exists) {
-            throw new IllegalArgumentException("This word already exists in the selected category.");
-        }
-
         entry.setCategory(newCategory);
         entry.setWord(newWord);
         entry.setHint(entry.getHint().trim());
+        entry.setAddedOn(LocalDate.now(DAILY_CHALLENGE_ZONE));
+
+        segments.update(newCategory, this::loadSegment, current -> {
+            boolean exists = current.stream().anyMatch(w -> w.getWord().equalsIgnoreCase(newWord));
+            if (exists) {
+                throw new IllegalArgumentException("This word already exists in the selected category.");
+            }
+            List<WordEntry> updated = new ArrayList<>(current);
+            updated.add(entry);
+            saveSegment(newCategory, updated);
+            return updated;
+        });
 
-        words.add(entry);
-        saveWords();
+        if (!categories().contains(newCategory)) {
+            List<String> updated = new ArrayList<>(categories());
+            updated.add(newCategory);
+            saveManifest(updated);
+            categories = List.copyOf(updated);
+        }
     }
 
     /**
      * Deletes a word entry by matching category and word (case-insensitive).
+     * Rewrites only the segment of the entry's category; a category left empty is removed from the manifest.
      *
      * @param entry the WordEntry to delete
+     * @throws IllegalStateException if the category's segment exists but cannot be read
      */
-    public void deleteWord(WordEntry entry) {
-        words.removeIf(w ->
-                w.getCategory().equalsIgnoreCase(entry.getCategory()) &&
-                        w.getWord().equalsIgnoreCase(entry.getWord()));
-        saveWords();
+    public synchronized void deleteWord(WordEntry entry) {
+        if (entry.getCategory() == null || entry.getWord() == null) return;
+        String category = entry.getCategory().trim().toLowerCase();
+        if (!categories().contains(category)) return;
+
+        List<WordEntry> remaining = segments.update(category, this::loadSegment, current -> {
+            List<WordEntry> updated = current.stream()
+                    .filter(w -> !w.getWord().equalsIgnoreCase(entry.getWord()))
+                    .collect(Collectors.toList());
+            if (updated.size() != current.size()) saveSegment(category, updated);
+            return updated;
+        });
+        dailySchedule.onDeleted(entry);
+
+        if (remaining.isEmpty()) {
+            List<String> updated = new ArrayList<>(categories());
+            updated.remove(category);
+            saveManifest(updated);
+            categories = List.copyOf(updated);
+        }
+    }
+
+    /**
+     * Returns the cached or freshly loaded segment of a category,
+     * or an empty list if the category is not in the manifest.
+     */
+    private List<WordEntry> segmentOf(String category) {
+        String key = category.toLowerCase();
+        if (!categories().contains(key)) return List.of();
+        return segments.get(key, this::loadSegment);
+    }
+
+    private static SnapshotManager newManifestSnapshots(Path directory) {
+        return new SnapshotManager(directory(directory).resolve(MANIFEST_FILE_NAME), SNAPSHOT_GENERATIONS);
+    }
+
+    private static SnapshotManager newSegmentSnapshots(Path directory, String category) {
+        return new SnapshotManager(directory(directory.resolve(category)).resolve(category + ".ser"), SNAPSHOT_GENERATIONS);
+    }
+
+    /**
+     * Creates a storage directory if it does not exist yet.
+     */
+    private static Path directory(Path path) {
+        try {
+            return Files.createDirectories(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
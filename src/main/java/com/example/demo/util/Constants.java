@@ -1,6 +1,16 @@
 package com.example.demo.util;
 
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
 public class Constants {
     public static final String WORDS_FILE = "words.ser";
+    public static final String WORDS_DIR = "words";
+    public static final long WORD_SEGMENT_CACHE_BYTES = 64L * 1024 * 1024;
     public static final String SCORES_FILE = "scores.ser";
+    public static final String DAILY_SCORES_FILE = "daily_scores.ser";
+    public static final String DAILY_SCORES_DIR = "daily_scores";
+    public static final int SNAPSHOT_GENERATIONS = 3;
+    public static final long DAILY_CHALLENGE_SEED = 0x5EEDF00DL;
+    public static final ZoneId DAILY_CHALLENGE_ZONE = ZoneOffset.UTC;
 }
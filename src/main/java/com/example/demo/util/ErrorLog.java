@@ -0,0 +1,51 @@
+package com.example.demo.util;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logs errors with rate-limited stack traces.
+ * Every error gets a one-line log entry, but the full stack trace of a given exception class
+ * is written at most once per interval; the next trace reports how many were suppressed.
+ * This keeps a failure storm (e.g. a full disk on every save) from flooding the log pipeline.
+ */
+public final class ErrorLog {
+
+    // Minimum time between two full stack traces of the same exception class
+    private static final long STACK_TRACE_INTERVAL_MILLIS = 60_000;
+    // Last stack-trace time and suppressed count per exception class
+    private static final ConcurrentHashMap<Class<?>, Window> WINDOWS = new ConcurrentHashMap<>();
+
+    private ErrorLog() {}
+
+    /**
+     * Logs an error, including the stack trace only if none was logged recently for this exception class.
+     *
+     * @param log     the logger of the calling class
+     * @param message short description of what failed
+     * @param ex      the exception that was caught
+     */
+    public static void error(Logger log, String message, Throwable ex) {
+        if (!log.isErrorEnabled()) return;
+        Window window = WINDOWS.computeIfAbsent(ex.getClass(), c -> new Window());
+        long now = System.currentTimeMillis();
+        long last = window.lastStackTrace.get();
+        if (now - last >= STACK_TRACE_INTERVAL_MILLIS && window.lastStackTrace.compareAndSet(last, now)) {
+            log.error("{} suppressedTraces={}", message, window.suppressed.getAndSet(0), ex);
+        } else {
+            window.suppressed.incrementAndGet();
+            // Not escaped here: %quotedMsg escapes the whole message, including this nested field
+            log.error("{} error=\"{}\"", message, ex.toString());
+        }
+    }
+
+    /**
+     * Rate-limit state of one exception class.
+     */
+    private static final class Window {
+        final AtomicLong lastStackTrace = new AtomicLong(Long.MIN_VALUE / 2);
+        final AtomicLong suppressed = new AtomicLong();
+    }
+}
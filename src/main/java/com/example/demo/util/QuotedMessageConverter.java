@@ -0,0 +1,48 @@
+package com.example.demo.util;
+
+import ch.qos.logback.classic.pattern.ClassicConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * Logback converter ({@code %quotedMsg}) that writes the log message escaped for a double-quoted
+ * {@code key="value"} field. Quotes, backslashes and line breaks in the message cannot end the field
+ * or split the entry over several lines, so every event stays one parseable line.
+ */
+public class QuotedMessageConverter extends ClassicConverter {
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        return escape(event.getFormattedMessage());
+    }
+
+    /**
+     * Escapes a value for use inside a double-quoted log field.
+     * Backslashes and quotes get a backslash, line breaks and tabs become {@code \n}, {@code \r} and {@code \t},
+     * and other control characters become {@code \\uXXXX}.
+     *
+     * @param value the raw value (may be null)
+     * @return the escaped value, or "null"
+     */
+    public static String escape(String value) {
+        if (value == null) return "null";
+        StringBuilder sb = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement = switch (c) {
+                case '\\' -> "\\\\";
+                case '"' -> "\\\"";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case '\t' -> "\\t";
+                default -> Character.isISOControl(c) ? String.format("\\u%04x", (int) c) : null;
+            };
+            if (replacement == null) {
+                if (sb != null) sb.append(c);
+                continue;
+            }
+            if (sb == null) sb = new StringBuilder(value.length() + 16).append(value, 0, i);
+            sb.append(replacement);
+        }
+        return sb != null ? sb.toString() : value;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.demo.util;
+
+import ch.qos.logback.classic.pattern.ThrowableProxyConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * Logback converter ({@code %stackTrace}) that writes the stack trace of an event as an escaped
+ * {@code stackTrace="..."} field on the same line, instead of the multi-line trace logback appends by default.
+ * Events without an exception produce nothing.
+ */
+public class StackTraceConverter extends ThrowableProxyConverter {
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        String trace = super.convert(event);
+        if (trace.isEmpty()) return "";
+        return " stackTrace=\"" + QuotedMessageConverter.escape(trace.strip()) + "\"";
+    }
+}
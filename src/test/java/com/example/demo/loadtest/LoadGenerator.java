@@ -0,0 +1,353 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.model.ScoreEntry;
+import com.example.demo.model.WordEntry;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static com.example.demo.util.Constants.SCORES_FILE;
+
+/**
+ * Load generator that simulates complete game sessions against the REST API.
+ * Each simulated player fetches the categories, fetches a random word, plays guesses with a think time
+ * between them, posts the score and reads the leaderboard - the same calls the React frontend makes.
+ *
+ * <p>New sessions arrive as a Poisson process at the configured rate, with at most {@code players}
+ * sessions running at once. Each endpoint gets its own latency histogram, and throughput and
+ * percentiles are printed at the end.</p>
+ *
+ * <p>Options (all optional):</p>
+ * <pre>
+ *   --base-url=http://localhost:8080   target instance
+ *   --embedded                         start the application in-process on a random port and target it
+ *   --players=50                       maximum concurrent sessions
+ *   --rate=10                          new sessions per second
+ *   --duration=60                      seconds to keep starting sessions
+ *   --think-ms=300                     mean think time between guesses
+ *   --nickname-prefix=loadtest         prefix of the simulated nicknames
+ *   --fail-saves                       make every save of the leaderboard file fail, to measure an error storm
+ * </pre>
+ * Note that simulated scores are written to the target's leaderboard.
+ *
+ * <p>{@code --fail-saves} needs a target that keeps its data files in the current directory, such as
+ * {@code --embedded}. Once the target is up, it blocks the next snapshot generation of {@link
+ * com.example.demo.util.Constants#SCORES_FILE} with a directory of the same name, so every posted score is
+ * kept in memory but its save fails and is logged. Comparing a run with and without it shows what the
+ * error logging costs when every request fails; the blocking directory is removed at the end.</p>
+ */
+public class LoadGenerator {
+
+    private static final String CATEGORIES = "GET /api/words/categories";
+    private static final String RANDOM_WORD = "GET /api/words/random";
+    private static final String POST_SCORE = "POST /api/scores";
+    private static final String LEADERBOARD = "GET /api/scores";
+
+    private final String baseUrl;
+    private final int players;
+    private final double rate;
+    private final Duration duration;
+    private final long thinkMillis;
+    private final String nicknamePrefix;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    // Registers the java.time module found on the classpath, e.g. for WordEntry.addedOn
+    private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+    // Per-endpoint latency histograms and error counters, in report order
+    private final Map<String, LatencyHistogram> latencies = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> errors = new LinkedHashMap<>();
+    private final AtomicLong sessionsCompleted = new AtomicLong();
+    // Sessions that stopped before posting a score, for whatever reason
+    private final AtomicLong sessionsAborted = new AtomicLong();
+    private final AtomicLong arrivalsDropped = new AtomicLong();
+
+    /**
+     * Creates a generator with the given traffic shape.
+     *
+     * @param baseUrl        base URL of the target instance
+     * @param players        maximum number of concurrent sessions
+     * @param rate           session arrival rate per second
+     * @param duration       how long new sessions keep arriving
+     * @param thinkMillis    mean think time between guesses in milliseconds
+     * @param nicknamePrefix prefix of the simulated nicknames
+     */
+    public LoadGenerator(String baseUrl, int players, double rate, Duration duration,
+                         long thinkMillis, String nicknamePrefix) {
+        this.baseUrl = baseUrl;
+        this.players = players;
+        this.rate = rate;
+        this.duration = duration;
+        this.thinkMillis = thinkMillis;
+        this.nicknamePrefix = nicknamePrefix;
+        for (String endpoint : List.of(CATEGORIES, RANDOM_WORD, POST_SCORE, LEADERBOARD)) {
+            latencies.put(endpoint, new LatencyHistogram());
+            errors.put(endpoint, new AtomicLong());
+        }
+    }
+
+    /**
+     * Parses the command-line options, optionally starts the application locally, and runs the load.
+     *
+     * @param args command-line options, see the class documentation
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] kv = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(kv[0], kv.length > 1 ? kv[1] : "true");
+        }
+
+        ConfigurableApplicationContext app = null;
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        if (options.containsKey("embedded")) {
+            app = SpringApplication.run(DemoApplication.class, "--server.port=0");
+            baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+        }
+
+        Path blocker = options.containsKey("fail-saves") ? blockNextScoresGeneration() : null;
+        LoadGenerator generator = new LoadGenerator(
+                baseUrl,
+                Integer.parseInt(options.getOrDefault("players", "50")),
+                Double.parseDouble(options.getOrDefault("rate", "10")),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60"))),
+                Long.parseLong(options.getOrDefault("think-ms", "300")),
+                options.getOrDefault("nickname-prefix", "loadtest"));
+        try {
+            generator.run();
+        } finally {
+            if (app != null) app.close();
+            if (blocker != null) unblock(blocker);
+        }
+    }
+
+    /**
+     * Makes every later save of the leaderboard fail by creating a non-empty directory where its next
+     * snapshot generation would be renamed to. The generation number only advances on a successful save,
+     * so each save retries the same blocked name. Must run after the target has loaded its scores,
+     * because a directory found among the generations at startup would fail the load instead.
+     *
+     * @return the blocking directory
+     * @throws IOException if the directory could not be listed or the blocker not created
+     */
+    private static Path blockNextScoresGeneration() throws IOException {
+        Path file = Paths.get(SCORES_FILE).toAbsolutePath();
+        Pattern generationName = Pattern.compile(Pattern.quote(file.getFileName().toString()) + "\\.(\\d+)");
+        long last = 0;
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            for (Path p : (Iterable<Path>) files::iterator) {
+                Matcher m = generationName.matcher(p.getFileName().toString());
+                if (m.matches()) last = Math.max(last, Long.parseLong(m.group(1)));
+            }
+        }
+        Path blocker = file.resolveSibling(file.getFileName() + "." + (last + 1));
+        Files.createDirectory(blocker);
+        // Keep the directory non-empty, so no platform lets the rename replace it
+        Files.createFile(blocker.resolve("blocked"));
+        System.out.printf("Saves of %s fail until %s is removed%n", SCORES_FILE, blocker.getFileName());
+        return blocker;
+    }
+
+    /**
+     * Removes the directory created by {@link #blockNextScoresGeneration()}.
+     */
+    private static void unblock(Path blocker) throws IOException {
+        Files.deleteIfExists(blocker.resolve("blocked"));
+        Files.deleteIfExists(blocker);
+    }
+
+    /**
+     * Starts sessions at the configured arrival rate until the duration has elapsed,
+     * waits for running sessions to finish and prints the report.
+     */
+    public void run() throws InterruptedException {
+        System.out.printf("Load test against %s: %d players, %.1f sessions/s, %ds, think %dms%n",
+                baseUrl, players, rate, duration.toSeconds(), thinkMillis);
+
+        Semaphore slots = new Semaphore(players);
+        Random random = new Random();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long nextArrival = start;
+        int sessionId = 0;
+
+        ExecutorService executor = newSessionExecutor();
+        try {
+            while (nextArrival < end) {
+                long wait = nextArrival - System.nanoTime();
+                if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+                if (slots.tryAcquire()) {
+                    String nickname = nicknamePrefix + "-" + (sessionId++ % players);
+                    executor.execute(() -> {
+                        try {
+                            playSession(nickname, ThreadLocalRandom.current());
+                        } finally {
+                            slots.release();
+                        }
+                    });
+                } else {
+                    // Every player is busy: the instance is not keeping up with the arrival rate
+                    arrivalsDropped.incrementAndGet();
+                }
+                // Exponential inter-arrival time gives a Poisson arrival process
+                nextArrival += (long) (-Math.log(1 - random.nextDouble()) / rate * 1_000_000_000L);
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(5, TimeUnit.MINUTES);
+        }
+        report(Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Plays one full game session the same way the frontend does.
+     *
+     * @param nickname the simulated player's nickname
+     * @param random   random source for the session
+     */
+    private void playSession(String nickname, Random random) {
+        try {
+            List<String> categories = parse(CATEGORIES, call(CATEGORIES, get("/api/words/categories")),
+                    new TypeReference<List<String>>() { });
+            if (categories == null || categories.isEmpty()) {
+                errors.get(CATEGORIES).incrementAndGet();
+                throw new IllegalStateException("no categories");
+            }
+            String category = categories.get(random.nextInt(categories.size()));
+
+            WordEntry word = parse(RANDOM_WORD, call(RANDOM_WORD, get("/api/words/random?category=" + category)),
+                    new TypeReference<WordEntry>() { });
+            if (word == null || word.getWord() == null) {
+                errors.get(RANDOM_WORD).incrementAndGet();
+                throw new IllegalStateException("empty word for " + category);
+            }
+
+            // Guess letters in random order until the word is revealed, thinking between guesses
+            long sessionStart = System.nanoTime();
+            Set<Character> missing = new HashSet<>();
+            for (char c : word.getWord().toCharArray()) missing.add(c);
+            List<Character> alphabet = new ArrayList<>();
+            for (char c = 'a'; c <= 'z'; c++) alphabet.add(c);
+            Collections.shuffle(alphabet, random);
+            int attempts = 0;
+            for (Iterator<Character> guesses = alphabet.iterator(); !missing.isEmpty() && guesses.hasNext(); attempts++) {
+                Thread.sleep((long) (-Math.log(1 - random.nextDouble()) * thinkMillis));
+                missing.remove(guesses.next());
+            }
+            boolean usedHint = random.nextInt(4) == 0;
+            int time = (int) TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - sessionStart);
+            int score = Math.max(0, 1000 - (attempts * 10 + (usedHint ? 100 : 0) + time));
+
+            ScoreEntry entry = new ScoreEntry(nickname, score, time, attempts, usedHint);
+            call(POST_SCORE, HttpRequest.newBuilder(URI.create(baseUrl + "/api/scores"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(entry)))
+                    .build());
+            call(LEADERBOARD, get("/api/scores"));
+            sessionsCompleted.incrementAndGet();
+        } catch (InterruptedException e) {
+            sessionsAborted.incrementAndGet();
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // The failure is counted against its endpoint; abandon the rest of this session
+            sessionsAborted.incrementAndGet();
+        }
+    }
+
+    /**
+     * Parses a response body, counting a body that cannot be parsed as an error of the endpoint.
+     *
+     * @return the parsed value, or null for an empty body
+     * @throws IOException if the body is not valid JSON of the expected type
+     */
+    private <T> T parse(String endpoint, String body, TypeReference<T> type) throws IOException {
+        if (body == null || body.isEmpty()) return null;
+        try {
+            return mapper.readValue(body, type);
+        } catch (IOException e) {
+            errors.get(endpoint).incrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Builds a GET request for a path on the target instance.
+     */
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    /**
+     * Sends a request and records its latency under the given endpoint name.
+     *
+     * @return the response body
+     * @throws Exception if the request fails or the response status is not 2xx
+     */
+    private String call(String endpoint, HttpRequest request) throws Exception {
+        long begin = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            latencies.get(endpoint).record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin));
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException(endpoint + " returned " + response.statusCode());
+            }
+            return response.body();
+        } catch (Exception e) {
+            errors.get(endpoint).incrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Prints throughput and latency percentiles per endpoint.
+     *
+     * @param elapsed total wall-clock time of the run
+     */
+    private void report(Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        System.out.printf("%nSessions completed: %d (%.1f/s), aborted: %d, arrivals dropped (all players busy): %d%n",
+                sessionsCompleted.get(), sessionsCompleted.get() / seconds, sessionsAborted.get(), arrivalsDropped.get());
+        System.out.printf("%-28s %8s %7s %9s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "mean ms", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<String, LatencyHistogram> e : latencies.entrySet()) {
+            LatencyHistogram h = e.getValue();
+            System.out.printf("%-28s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    e.getKey(), h.count(), errors.get(e.getKey()).get(), h.count() / seconds,
+                    h.mean() / 1000.0, h.percentile(50) / 1000.0, h.percentile(90) / 1000.0,
+                    h.percentile(99) / 1000.0, h.percentile(99.9) / 1000.0, h.max() / 1000.0);
+        }
+    }
+
+    /**
+     * Runs each session on its own virtual thread when the JVM supports them (Java 21+),
+     * falling back to a cached pool of platform threads on older runtimes.
+     */
+    private static ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+                    .invoke();
+        } catch (Throwable unsupported) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.model.ScoreEntry;
+import com.example.demo.model.WordEntry;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Micro-benchmark of the negotiated response formats (JSON, CBOR, Smile), measuring what a response
+ * costs the server and the client:
+ * <ul>
+ *   <li>encode and decode CPU time per response,</li>
+ *   <li>bytes on the wire, plain and gzip-compressed (as sent for responses over 1 KB),</li>
+ *   <li>the extra CPU time gzip adds on top of encoding.</li>
+ * </ul>
+ * Payloads mirror the API: a single random word, the full word list, the top-10 leaderboard
+ * and a large score list. Each case is warmed up before it is timed.
+ *
+ * <p>Options (all optional):</p>
+ * <pre>
+ *   --words=5000          size of the full word list
+ *   --scores=1000         size of the large score list
+ *   --iterations=2000     timed iterations per case (after as many warm-up iterations)
+ * </pre>
+ */
+public class SerializationBenchmark {
+
+    private static final TypeReference<List<WordEntry>> WORD_LIST = new TypeReference<>() { };
+    private static final TypeReference<List<ScoreEntry>> SCORE_LIST = new TypeReference<>() { };
+
+    private final int iterations;
+    // Mappers configured like Spring Boot's: java.time support with ISO dates for WordEntry.addedOn
+    private final Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+
+    /**
+     * Creates a benchmark with the given number of timed iterations per case.
+     *
+     * @param iterations timed iterations per case
+     */
+    public SerializationBenchmark(int iterations) {
+        this.iterations = iterations;
+        mappers.put("json", new ObjectMapper());
+        mappers.put("cbor", new CBORMapper());
+        mappers.put("smile", new SmileMapper());
+        for (ObjectMapper mapper : mappers.values()) {
+            mapper.findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        }
+    }
+
+    /**
+     * Parses the command-line options and prints one table row per payload and format.
+     *
+     * @param args command-line options, see the class documentation
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] kv = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(kv[0], kv.length > 1 ? kv[1] : "true");
+        }
+        int words = Integer.parseInt(options.getOrDefault("words", "5000"));
+        int scores = Integer.parseInt(options.getOrDefault("scores", "1000"));
+        SerializationBenchmark benchmark = new SerializationBenchmark(
+                Integer.parseInt(options.getOrDefault("iterations", "2000")));
+
+        Random random = new Random(42);
+        List<WordEntry> dictionary = sampleWords(words, random);
+        System.out.printf("%-22s %-6s %10s %10s %11s %11s %12s%n",
+                "payload", "format", "bytes", "gzip bytes", "encode us", "decode us", "+gzip us");
+        benchmark.run("random word", dictionary.get(0), WordEntry.class);
+        benchmark.run("word list (" + words + ")", dictionary, WORD_LIST);
+        benchmark.run("leaderboard (10)", sampleScores(10, random), SCORE_LIST);
+        benchmark.run("score list (" + scores + ")", sampleScores(scores, random), SCORE_LIST);
+    }
+
+    private void run(String payload, Object value, Class<?> type) throws IOException {
+        for (Map.Entry<String, ObjectMapper> mapper : mappers.entrySet()) {
+            measure(payload, mapper.getKey(), mapper.getValue(), value,
+                    bytes -> mapper.getValue().readValue(bytes, type));
+        }
+    }
+
+    private void run(String payload, Object value, TypeReference<?> type) throws IOException {
+        for (Map.Entry<String, ObjectMapper> mapper : mappers.entrySet()) {
+            measure(payload, mapper.getKey(), mapper.getValue(), value,
+                    bytes -> mapper.getValue().readValue(bytes, type));
+        }
+    }
+
+    /**
+     * Times encoding, decoding and gzip of one payload in one format and prints the row.
+     */
+    private void measure(String payload, String format, ObjectMapper mapper, Object value, Decoder decoder)
+            throws IOException {
+        byte[] encoded = mapper.writeValueAsBytes(value);
+        byte[] compressed = gzip(encoded);
+        if (!Arrays.equals(mapper.writeValueAsBytes(decoder.decode(gunzip(compressed))), encoded)) {
+            throw new IllegalStateException(format + " round trip of " + payload + " changed the payload");
+        }
+
+        // Results are folded into a sink so the JIT cannot drop the work
+        long sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            sink += mapper.writeValueAsBytes(value).length + System.identityHashCode(decoder.decode(encoded)) + gzip(encoded).length;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) sink += mapper.writeValueAsBytes(value).length;
+        long encodeNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) sink += System.identityHashCode(decoder.decode(encoded));
+        long decodeNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) sink += gzip(encoded).length;
+        long gzipNanos = System.nanoTime() - start;
+
+        System.out.printf("%-22s %-6s %10d %10d %11.2f %11.2f %12.2f%s%n",
+                payload, format, encoded.length, compressed.length,
+                encodeNanos / 1000.0 / iterations, decodeNanos / 1000.0 / iterations, gzipNanos / 1000.0 / iterations,
+                sink == 42 ? " " : "");
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream gz = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return gz.readAllBytes();
+        }
+    }
+
+    /**
+     * Builds a dictionary shaped like the real one: lowercase words in a handful of categories with short hints.
+     */
+    private static List<WordEntry> sampleWords(int count, Random random) {
+        String[] categories = {"animals", "fruits", "countries", "sports", "colors", "professions", "instruments"};
+        List<WordEntry> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            WordEntry entry = new WordEntry(categories[random.nextInt(categories.length)],
+                    randomLetters(4 + random.nextInt(8), random),
+                    "A hint with a few words about " + randomLetters(6, random));
+            if (random.nextInt(4) == 0) entry.setAddedOn(LocalDate.of(2025, 1, 1).plusDays(random.nextInt(365)));
+            words.add(entry);
+        }
+        return words;
+    }
+
+    private static List<ScoreEntry> sampleScores(int count, Random random) {
+        List<ScoreEntry> scores = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            scores.add(new ScoreEntry("player" + randomLetters(5, random), random.nextInt(1000),
+                    random.nextInt(300), 1 + random.nextInt(26), random.nextBoolean()));
+        }
+        return scores;
+    }
+
+    private static String randomLetters(int length, Random random) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) sb.append((char) ('a' + random.nextInt(26)));
+        return sb.toString();
+    }
+
+    /**
+     * Reads a payload back in one format.
+     */
+    @FunctionalInterface
+    private interface Decoder {
+        Object decode(byte[] bytes) throws IOException;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.demo.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NicknameIndexTest {
+
+    @Test
+    void canonicalFormNormalizesWhitespaceCaseAndWidth() {
+        assertEquals("bob smith", NicknameIndex.canonical("  Bob \t SMITH "));
+        assertEquals("bob", NicknameIndex.canonical("ＢＯＢ"));
+        assertThrows(IllegalArgumentException.class, () -> NicknameIndex.canonical("   "));
+    }
+
+    @Test
+    void skeletonFoldsLookalikesSeparatorsAndRepeats() {
+        assertEquals("bob", NicknameIndex.skeleton("Bob"));
+        assertEquals("bob", NicknameIndex.skeleton(" b0b "));
+        assertEquals("bob", NicknameIndex.skeleton("B_o_b"));
+        assertEquals("bob", NicknameIndex.skeleton("boob"));
+        assertEquals("iet", NicknameIndex.skeleton("L33t"));
+        assertEquals("", NicknameIndex.skeleton("_-_"));
+    }
+
+    @Test
+    void findsSameSkeletonButNotTheQueriedPlayer() {
+        NicknameIndex index = new NicknameIndex();
+        index.add("Bob");
+        index.add("b0b");
+
+        assertEquals(List.of("b0b"), index.findSimilar("BOB", 10));
+        assertEquals(List.of("Bob", "b0b"), index.findSimilar("b o b", 10));
+    }
+
+    @Test
+    void findsSkeletonsOneEditApart() {
+        NicknameIndex index = new NicknameIndex();
+        index.add("Marco");
+
+        assertEquals(List.of("Marco"), index.findSimilar("Marcos", 10));
+        assertEquals(List.of("Marco"), index.findSimilar("Marko", 10));
+        assertEquals(List.of("Marco"), index.findSimilar("Mrco", 10));
+    }
+
+    @Test
+    void rejectsSkeletonsMoreThanOneEditApart() {
+        NicknameIndex index = new NicknameIndex();
+        index.add("Marco");
+
+        // Shares the deletion variant "maco" with "marco", but is a transposition (two edits) away
+        assertEquals(List.of(), index.findSimilar("Macro", 10));
+        assertEquals(List.of(), index.findSimilar("Mark", 10));
+        assertEquals(List.of(), index.findSimilar("Polo", 10));
+    }
+
+    @Test
+    void matchesShortSkeletonsOnlyExactly() {
+        NicknameIndex index = new NicknameIndex();
+        index.add("Bob");
+        index.add("Ann");
+
+        assertEquals(List.of(), index.findSimilar("Bobs", 10));
+        assertEquals(List.of(), index.findSimilar("Bo", 10));
+        assertEquals(List.of(), index.findSimilar("Bub", 10));
+        assertEquals(List.of("Bob"), index.findSimilar("B0bb", 10));
+    }
+
+    @Test
+    void stopsAtLimitWithExactSkeletonMatchesFirst() {
+        NicknameIndex index = new NicknameIndex();
+        index.add("Marie");
+        index.add("Maria");
+        index.add("M4ria");
+        index.add("Mar1a");
+        index.add("Mario");
+
+        assertEquals(List.of("Maria", "M4ria"), index.findSimilar("maria_", 2));
+        List<String> all = index.findSimilar("maria_", 10);
+        assertEquals(List.of("Maria", "M4ria", "Mar1a"), all.subList(0, 3));
+        assertEquals(5, all.size());
+        assertTrue(all.containsAll(List.of("Marie", "Mario")));
+        assertEquals(List.of(), index.findSimilar("maria_", 0));
+    }
+
+    @Test
+    void keepsFindingNamesAfterTheTableGrows() {
+        NicknameIndex index = new NicknameIndex();
+        // Each skeleton files about eight variant hashes, so the 1024-slot table is doubled several times
+        int count = 3000;
+        for (int i = 0; i < count; i++) {
+            index.add(name(i));
+        }
+
+        for (int i = 0; i < count; i++) {
+            String name = name(i);
+            assertTrue(index.findSimilar(name + "_", 50).contains(name), name + " by skeleton");
+            assertTrue(index.findSimilar(name + "y", 50).contains(name), name + " one edit away");
+        }
+        assertEquals(List.of(), index.findSimilar("nqyqyq", 50));
+    }
+
+    /**
+     * Builds a distinct nickname whose skeleton is the name itself: no lookalike characters
+     * and no repeated neighbours, because the digits are separated by 'z'.
+     */
+    private static String name(int i) {
+        String letters = "abcdefghjk";
+        StringBuilder sb = new StringBuilder("nu");
+        for (char digit : Integer.toString(i).toCharArray()) {
+            sb.append(letters.charAt(digit - '0')).append('z');
+        }
+        return sb.toString();
+    }
+}
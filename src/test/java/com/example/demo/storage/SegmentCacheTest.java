@@ -0,0 +1,100 @@
+package com.example.demo.storage;
+
+import com.example.demo.model.SegmentStats;
+import com.example.demo.model.WordEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentCacheTest {
+
+    // Estimated size of a one-word segment built by segment(): 160 + 2 * (2 + 1 + 1) characters
+    private static final long SEGMENT_BYTES = 168;
+
+    private final List<String> loaded = new ArrayList<>();
+    private final Function<String, List<WordEntry>> loader = category -> {
+        loaded.add(category);
+        return segment(category);
+    };
+
+    @Test
+    void evictsLeastRecentlyUsedSegmentOnceOverBudget() {
+        SegmentCache cache = new SegmentCache(2 * SEGMENT_BYTES);
+        cache.get("aa", loader);
+        cache.get("bb", loader);
+        cache.get("aa", loader);
+        cache.get("cc", loader);
+
+        assertNull(cache.peek("bb"));
+        assertNotNull(cache.peek("aa"));
+        assertNotNull(cache.peek("cc"));
+        cache.get("bb", loader);
+        assertEquals(List.of("aa", "bb", "cc", "bb"), loaded);
+        assertNull(cache.peek("aa"));
+
+        SegmentStats stats = cache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(4, stats.getMisses());
+        assertEquals(4, stats.getLoads());
+        assertEquals(2, stats.getEvictions());
+        assertEquals(2, stats.getCachedSegments());
+        assertEquals(2 * SEGMENT_BYTES, stats.getCachedBytes());
+    }
+
+    @Test
+    void peekNeitherLoadsNorMakesSegmentRecentlyUsed() {
+        SegmentCache cache = new SegmentCache(2 * SEGMENT_BYTES);
+        assertNull(cache.peek("aa"));
+        cache.get("aa", loader);
+        cache.get("bb", loader);
+        assertNotNull(cache.peek("aa"));
+        cache.get("cc", loader);
+
+        assertNull(cache.peek("aa"));
+        assertNotNull(cache.peek("bb"));
+        assertEquals(List.of("aa", "bb", "cc"), loaded);
+        assertEquals(0, cache.stats().getHits());
+        assertEquals(3, cache.stats().getMisses());
+    }
+
+    @Test
+    void tracksBytesWhenSegmentsAreReplaced() {
+        SegmentCache cache = new SegmentCache(10 * SEGMENT_BYTES);
+        cache.get("aa", loader);
+        List<WordEntry> updated = cache.update("aa", loader, current -> {
+            List<WordEntry> words = new ArrayList<>(current);
+            words.add(new WordEntry("aa", "x", "y"));
+            return words;
+        });
+
+        assertEquals(2, updated.size());
+        assertSame(updated, cache.peek("aa"));
+        assertEquals(List.of("aa"), loaded);
+        assertEquals(2 * SEGMENT_BYTES, cache.stats().getCachedBytes());
+
+        cache.update("aa", loader, current -> List.of());
+        assertEquals(0, cache.stats().getCachedBytes());
+        assertEquals(1, cache.stats().getCachedSegments());
+    }
+
+    @Test
+    void keepsMostRecentSegmentEvenIfItExceedsTheBudget() {
+        SegmentCache cache = new SegmentCache(SEGMENT_BYTES / 2);
+        cache.get("aa", loader);
+        assertNotNull(cache.peek("aa"));
+        cache.get("bb", loader);
+
+        assertNull(cache.peek("aa"));
+        assertNotNull(cache.peek("bb"));
+        assertEquals(1, cache.stats().getEvictions());
+        assertEquals(SEGMENT_BYTES, cache.stats().getCachedBytes());
+    }
+
+    private static List<WordEntry> segment(String category) {
+        return List.of(new WordEntry(category, "w", "h"));
+    }
+}
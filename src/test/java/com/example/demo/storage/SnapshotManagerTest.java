@@ -0,0 +1,182 @@
+package com.example.demo.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotManagerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void loadsNewestGenerationAndKeepsOnlyConfiguredCount() throws IOException {
+        Path file = dir.resolve("words.ser");
+        SnapshotManager manager = new SnapshotManager(file, 3);
+        for (int i = 1; i <= 5; i++) {
+            manager.save(new ArrayList<>(List.of(i)));
+        }
+
+        assertEquals(List.of(5), new SnapshotManager(file, 3).load());
+        assertEquals(List.of("words.ser.3", "words.ser.4", "words.ser.5"), fileNames());
+    }
+
+    @Test
+    void readsLegacyFileWhenNoGenerationExists() throws IOException {
+        Path file = dir.resolve("scores.ser");
+        try (OutputStream out = Files.newOutputStream(file);
+             ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(new ArrayList<>(List.of("legacy")));
+        }
+
+        assertEquals(List.of("legacy"), new SnapshotManager(file, 3).load());
+    }
+
+    @Test
+    void retiresLegacyFileOnceTheFirstGenerationIsWritten() throws IOException {
+        Path file = dir.resolve("scores.ser");
+        try (OutputStream out = Files.newOutputStream(file);
+             ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(new ArrayList<>(List.of("legacy")));
+        }
+        new SnapshotManager(file, 1).save(new ArrayList<>(List.of("current")));
+        // Even with every generation gone, the months-old plain file must not come back
+        Files.move(dir.resolve("scores.ser.1"), dir.resolve("scores.ser.1.corrupt"));
+
+        assertNull(new SnapshotManager(file, 1).load());
+        assertEquals(List.of("scores.ser.1.corrupt", "scores.ser.migrated"), fileNames());
+    }
+
+    @Test
+    void failsWithoutQuarantiningVerifiedGenerationThatCannotBeDeserialized() throws IOException {
+        Path file = dir.resolve("scores.ser");
+        new SnapshotManager(file, 3).save(new ArrayList<>(List.of("older")));
+        // Checksum-valid payload that is not a serialized object, as after an incompatible class change
+        byte[] payload = "not a serialized object".getBytes();
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        Files.write(dir.resolve("scores.ser.2"), ByteBuffer.allocate(12 + payload.length)
+                .putInt(0x57475331).putInt(payload.length).putInt((int) crc.getValue()).put(payload).array());
+
+        assertThrows(IllegalStateException.class, () -> new SnapshotManager(file, 3).load());
+        assertEquals(List.of("scores.ser.1", "scores.ser.2"), fileNames());
+    }
+
+    @Test
+    void existsDistinguishesUnreadableSnapshotFromMissingOne() throws IOException {
+        Path file = dir.resolve("animals.ser");
+        SnapshotManager manager = new SnapshotManager(file, 3);
+        assertFalse(manager.exists());
+
+        manager.save(new ArrayList<>(List.of("cat")));
+        Files.write(dir.resolve("animals.ser.1"), new byte[]{0, 1, 2});
+
+        SnapshotManager restarted = new SnapshotManager(file, 3);
+        assertNull(restarted.load());
+        assertTrue(restarted.exists());
+    }
+
+    @Test
+    void markMigratedRenamesAllFilesSoTheyAreNoLongerLoaded() throws IOException {
+        Path file = dir.resolve("daily_scores.ser");
+        Files.write(file, new byte[]{1});
+        SnapshotManager manager = new SnapshotManager(file, 3);
+        manager.save(new ArrayList<>(List.of("old")));
+        manager.save(new ArrayList<>(List.of("new")));
+
+        manager.markMigrated();
+
+        assertNull(new SnapshotManager(file, 3).load());
+        assertEquals(List.of("daily_scores.ser.1.migrated", "daily_scores.ser.2.migrated", "daily_scores.ser.migrated"),
+                fileNames());
+    }
+
+    /**
+     * Simulates the writer being killed at random points of a save, restarting after every round.
+     * Whatever the crash point, a restart must recover the last snapshot that was fully written.
+     */
+    @Test
+    void recoversLastCompleteSnapshotWhenWriterIsKilledAtRandomPoints() throws IOException {
+        Path file = dir.resolve("scores.ser");
+        Random random = new Random(20240601L);
+        List<Integer> data = new ArrayList<>();
+        List<Integer> lastComplete = null;
+
+        for (int round = 0; round < 500; round++) {
+            data.add(round);
+            List<Integer> snapshot = new ArrayList<>(data);
+            SnapshotManager writer = new SnapshotManager(file, 3);
+
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    // Killed while writing the temporary file: only a partial temp file is left
+                    byte[] partial = new byte[random.nextInt(64)];
+                    random.nextBytes(partial);
+                    Files.write(Files.createTempFile(dir, "scores.ser.", ".tmp"), partial);
+                }
+                case 1 -> {
+                    // Torn write: the rename survived but the tail of the data did not reach the disk
+                    writer.save(snapshot);
+                    Path newest = newestGeneration();
+                    try (FileChannel channel = FileChannel.open(newest, StandardOpenOption.WRITE)) {
+                        channel.truncate(random.nextInt((int) channel.size()));
+                    }
+                }
+                case 2 -> {
+                    // Corrupted payload: a flipped byte somewhere in the newest generation
+                    writer.save(snapshot);
+                    Path newest = newestGeneration();
+                    byte[] bytes = Files.readAllBytes(newest);
+                    bytes[random.nextInt(bytes.length)] ^= (byte) (1 + random.nextInt(255));
+                    Files.write(newest, bytes);
+                }
+                default -> {
+                    // Save completed
+                    writer.save(snapshot);
+                    lastComplete = snapshot;
+                }
+            }
+
+            Object recovered = new SnapshotManager(file, 3).load();
+            assertEquals(lastComplete, recovered, "round " + round);
+            try (Stream<Path> files = Files.list(dir)) {
+                assertTrue(files.noneMatch(p -> p.toString().endsWith(".tmp")), "leftover temp file in round " + round);
+            }
+        }
+    }
+
+    private Path newestGeneration() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.getFileName().toString().matches("scores\\.ser\\.\\d+"))
+                    .max((a, b) -> Long.compare(generationOf(a), generationOf(b)))
+                    .orElseThrow();
+        }
+    }
+
+    private static long generationOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(name.lastIndexOf('.') + 1));
+    }
+
+    private List<String> fileNames() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(p -> p.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.demo.storage;
+
+import com.example.demo.model.WordEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordStorageTest {
+
+    private static final List<WordEntry> DICTIONARY = List.of(
+            new WordEntry("animals", "cat", "Purrs"),
+            new WordEntry("animals", "dog", "Barks"),
+            new WordEntry("fruits", "apple", "Red or green"));
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void splitsLegacyFileIntoSegmentsAndRetiresIt() throws IOException {
+        Path legacy = dir.resolve("words.ser");
+        try (OutputStream out = Files.newOutputStream(legacy);
+             ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(new ArrayList<>(List.of(
+                    new WordEntry("Animals", "CAT", " Purrs "),
+                    new WordEntry("animals", "cat", "Duplicate"),
+                    new WordEntry("fruits", "apple", "Red or green"),
+                    new WordEntry("fruits", "two words", "Not a word"))));
+        }
+
+        WordStorage storage = open();
+        assertEquals(List.of("animals", "fruits"), storage.getAllCategories());
+        assertEquals(List.of("cat:Purrs", "apple:Red or green"), describe(storage.getAllWords()));
+        assertFalse(Files.exists(legacy));
+        assertTrue(Files.exists(dir.resolve("words.ser.migrated")));
+
+        // The next start reads the manifest and does not split again
+        assertEquals(List.of("animals", "fruits"), open().getAllCategories());
+        assertEquals(List.of("manifest.ser.1"), fileNames(dir.resolve("words"), "manifest"));
+    }
+
+    @Test
+    void rebuildsLostManifestFromSegmentsIncludingUnreadableOnes() throws IOException {
+        Path words = dir.resolve("words");
+        WordStorage.writeDictionary(words, DICTIONARY);
+        Files.delete(words.resolve("manifest.ser.1"));
+        corrupt(words.resolve("fruits").resolve("fruits.ser.1"));
+
+        WordStorage storage = open();
+        assertEquals(List.of("animals", "fruits"), storage.getAllCategories());
+        assertEquals(List.of("cat:Purrs", "dog:Barks"), describe(storage.getAllWords()));
+        assertThrows(IllegalStateException.class, () -> storage.getRandomWordByCategory("fruits"));
+        assertEquals(List.of("fruits.ser.1.corrupt"), fileNames(words.resolve("fruits"), "fruits"));
+        assertEquals(List.of("manifest.ser.1"), fileNames(words, "manifest"));
+    }
+
+    @Test
+    void refusesToAddWordToUnreadableSegment() throws IOException {
+        Path words = dir.resolve("words");
+        WordStorage.writeDictionary(words, DICTIONARY);
+        corrupt(words.resolve("fruits").resolve("fruits.ser.1"));
+
+        WordStorage storage = open();
+        assertThrows(IllegalStateException.class, () -> storage.addWord(new WordEntry("fruits", "kiwi", "Fuzzy")));
+        assertThrows(IllegalStateException.class, () -> storage.deleteWord(new WordEntry("fruits", "apple", "")));
+        assertEquals(List.of("fruits.ser.1.corrupt"), fileNames(words.resolve("fruits"), "fruits"));
+
+        storage.addWord(new WordEntry("animals", "Cow", " Moos "));
+        assertEquals(List.of("cat:Purrs", "dog:Barks", "cow:Moos"), describe(open().getAllWords()));
+    }
+
+    private WordStorage open() {
+        WordStorage storage = new WordStorage(dir.resolve("words"), dir.resolve("words.ser"), 1 << 20);
+        storage.whenLoaded().join();
+        return storage;
+    }
+
+    /**
+     * Overwrites a snapshot with bytes that fail the header check.
+     */
+    private static void corrupt(Path snapshot) throws IOException {
+        Files.write(snapshot, "not a snapshot".getBytes());
+    }
+
+    private static List<String> describe(List<WordEntry> entries) {
+        return entries.stream().map(w -> w.getWord() + ":" + w.getHint()).collect(Collectors.toList());
+    }
+
+    private static List<String> fileNames(Path directory, String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(p -> p.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}